@@ -0,0 +1,81 @@
+package com.mycompany.airportsimulation.benchmarks;
+
+import com.mycompany.airportsimulation.Airplane;
+import com.mycompany.airportsimulation.Airport;
+import com.mycompany.airportsimulation.AirportConfig;
+import com.mycompany.airportsimulation.EventLog;
+import com.mycompany.airportsimulation.ExecutionMode;
+import com.mycompany.airportsimulation.ServiceTimes;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+// One op = acquireAirportCapacity + releaseAirportCapacity by a plane that is an
+// emergency with the given percentage, against 16 concurrent arrivals.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(16)
+public class CapacityAdmissionBenchmark {
+
+    @Param({"3"})
+    public int capacity;
+
+    @Param({"0", "10", "50"})
+    public int emergencyPercent;
+
+    private Airport airport;
+
+    @State(Scope.Thread)
+    public static class Arrivals {
+        Airplane normal;
+        Airplane emergency;
+        SplittableRandom random;
+
+        @Setup
+        public void setUp(CapacityAdmissionBenchmark benchmark) {
+            long id = Thread.currentThread().threadId();
+            normal = new Airplane("N" + id, benchmark.airport, false);
+            emergency = new Airplane("E" + id, benchmark.airport, true);
+            random = new SplittableRandom(id);
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        airport = new Airport(AirportConfig.builder()
+                .gates(3)
+                .capacity(capacity)
+                .serviceTimes(ServiceTimes.DEFAULT.scaled(0))
+                .executionMode(ExecutionMode.PLATFORM)
+                .build(), EventLog.silent());
+    }
+
+    @TearDown
+    public void tearDown() {
+        airport.close();
+    }
+
+    @Benchmark
+    public void admitAndRelease(Arrivals arrivals) throws InterruptedException {
+        boolean isEmergency = arrivals.random.nextInt(100) < emergencyPercent;
+        Airplane plane = isEmergency ? arrivals.emergency : arrivals.normal;
+        airport.acquireAirportCapacity(plane, isEmergency);
+        airport.releaseAirportCapacity(plane);
+    }
+}
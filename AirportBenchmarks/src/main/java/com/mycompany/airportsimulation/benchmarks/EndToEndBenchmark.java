@@ -0,0 +1,71 @@
+package com.mycompany.airportsimulation.benchmarks;
+
+import com.mycompany.airportsimulation.Airplane;
+import com.mycompany.airportsimulation.Airport;
+import com.mycompany.airportsimulation.AirportConfig;
+import com.mycompany.airportsimulation.EventLog;
+import com.mycompany.airportsimulation.ExecutionMode;
+import com.mycompany.airportsimulation.ServiceTimes;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Full flights through the threaded airport with every sleep scaled to zero.
+// Scores are runway movements (one landing plus one takeoff per flight) per second.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EndToEndBenchmark {
+    private static final int FLIGHTS = 100;
+
+    @Param({"PLATFORM", "VIRTUAL"})
+    public ExecutionMode mode;
+
+    @Param({"3"})
+    public int gates;
+
+    private Airport airport;
+    private long nextId;
+
+    @Setup
+    public void setUp() {
+        airport = new Airport(AirportConfig.builder()
+                .gates(gates)
+                .capacity(gates)
+                .serviceTimes(ServiceTimes.DEFAULT.scaled(0))
+                .executionMode(mode)
+                .build(), EventLog.silent());
+    }
+
+    @TearDown
+    public void tearDown() {
+        airport.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(2 * FLIGHTS)
+    public void movements() throws InterruptedException {
+        Airplane[] planes = new Airplane[FLIGHTS];
+        for (int i = 0; i < FLIGHTS; i++) {
+            planes[i] = new Airplane(Long.toString(++nextId), airport, i % 20 == 0);
+            planes[i].start();
+        }
+        for (Airplane plane : planes) {
+            plane.join(0);
+        }
+    }
+}
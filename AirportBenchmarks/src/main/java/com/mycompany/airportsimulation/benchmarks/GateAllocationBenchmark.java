@@ -0,0 +1,73 @@
+package com.mycompany.airportsimulation.benchmarks;
+
+import com.mycompany.airportsimulation.ATC;
+import com.mycompany.airportsimulation.Airplane;
+import com.mycompany.airportsimulation.Airport;
+import com.mycompany.airportsimulation.AirportConfig;
+import com.mycompany.airportsimulation.EventLog;
+import com.mycompany.airportsimulation.ExecutionMode;
+import com.mycompany.airportsimulation.ServiceTimes;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+// One op = ATC.requestGate followed by ATC.releaseGate, with 8 planes competing for the gates.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class GateAllocationBenchmark {
+
+    @Param({"3", "64", "1024"})
+    public int gates;
+
+    private Airport airport;
+    private ATC atc;
+
+    @State(Scope.Thread)
+    public static class Plane {
+        Airplane plane;
+
+        @Setup
+        public void setUp(GateAllocationBenchmark benchmark) {
+            plane = new Airplane(Long.toString(Thread.currentThread().threadId()), benchmark.airport, false);
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        airport = new Airport(AirportConfig.builder()
+                .gates(gates)
+                .capacity(gates)
+                .serviceTimes(ServiceTimes.DEFAULT.scaled(0))
+                .executionMode(ExecutionMode.VIRTUAL)
+                .build(), EventLog.silent());
+        atc = airport.getATC();
+    }
+
+    @TearDown
+    public void tearDown() {
+        airport.close();
+    }
+
+    @Benchmark
+    public int assignAndRelease(Plane state) throws InterruptedException {
+        int gateId = atc.requestGate(state.plane, false);
+        atc.releaseGate(gateId, state.plane);
+        return gateId;
+    }
+}
@@ -0,0 +1,77 @@
+package com.mycompany.airportsimulation.benchmarks;
+
+import com.mycompany.airportsimulation.ATC;
+import com.mycompany.airportsimulation.Airplane;
+import com.mycompany.airportsimulation.Airport;
+import com.mycompany.airportsimulation.AirportConfig;
+import com.mycompany.airportsimulation.EventLog;
+import com.mycompany.airportsimulation.ExecutionMode;
+import com.mycompany.airportsimulation.ServiceTimes;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+// One op = request landing, wait for the ATC grant, vacate the runway.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RunwayGrantBenchmark {
+    private final AtomicLong ids = new AtomicLong();
+    private Airport airport;
+    private ATC atc;
+
+    @Setup
+    public void setUp() {
+        airport = new Airport(AirportConfig.builder()
+                .gates(3)
+                .capacity(3)
+                .serviceTimes(ServiceTimes.DEFAULT.scaled(0))
+                .executionMode(ExecutionMode.PLATFORM)
+                .build(), EventLog.silent());
+        atc = airport.getATC();
+    }
+
+    @TearDown
+    public void tearDown() {
+        airport.close();
+    }
+
+    private void grantAndVacate() throws InterruptedException {
+        Airplane plane = new Airplane(Long.toString(ids.incrementAndGet()), airport, false);
+        atc.requestLanding(plane, false);
+        plane.awaitLandingClearance();
+        atc.signalRunwayVacated(plane);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void requesters1() throws InterruptedException {
+        grantAndVacate();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void requesters4() throws InterruptedException {
+        grantAndVacate();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void requesters16() throws InterruptedException {
+        grantAndVacate();
+    }
+}
@@ -1,120 +1,348 @@
-package com.mycompany.airportsimulation;
-
-import java.util.ArrayDeque;
-import java.util.Queue;
-
-public class ATC extends Thread {
-    private final Queue<Airplane> emergencyLandingQueue = new ArrayDeque<>();
-    private final Queue<Airplane> normalLandingQueue = new ArrayDeque<>();
-    private final Queue<Airplane> takeoffQueue = new ArrayDeque<>();
-    private final Object lock = new Object();
-    private final Airport airport;
-    private boolean runwayFree = true;
-
-    public ATC(Airport airport) {
-        this.airport = airport;
-        setName("ATC");
-    }
-
-    @Override
-    public void run() {
-        while (true) {
-            synchronized (lock) {
-                if (runwayFree) {
-                    Airplane plane = null;
-                    String operation = "";
-                    
-                    if (!emergencyLandingQueue.isEmpty()) {
-                        plane = emergencyLandingQueue.poll();
-                        operation = "Emergency landing";
-                        System.out.println("ATC: Emergency landing granted to " + plane.getName());
-                    } else if (!normalLandingQueue.isEmpty()) {
-                        plane = normalLandingQueue.poll();
-                        operation = "Landing";
-                        System.out.println("ATC: Landing granted to " + plane.getName());
-                    } else if (!takeoffQueue.isEmpty()) {
-                        plane = takeoffQueue.poll();
-                        operation = "Takeoff";
-                        System.out.println("ATC: Takeoff granted to " + plane.getName());
-                    }
-
-                    if (plane != null) {
-                        runwayFree = false;
-                        if (plane.isWaitingForLanding()) {
-                            synchronized (plane.getLandingLock()) {
-                                plane.getLandingLock().notify();
-                            }
-                        } else {
-                            plane.setClearedForTakeoff(true);
-                            synchronized (plane.getTakeoffLock()) {
-                                plane.getTakeoffLock().notify();
-                            }
-                        }
-                    }
-                }
-                try {
-                    lock.wait(100);
-                } catch (InterruptedException ignored) {}
-            }
-        }
-    }
-
-    public void requestLanding(Airplane plane, boolean isEmergency) {
-        synchronized (lock) {
-            if (isEmergency) {
-                emergencyLandingQueue.add(plane);
-            } else {
-                normalLandingQueue.add(plane);
-            }
-            lock.notifyAll();
-        }
-    }
-
-    public void requestTakeoff(Airplane plane) {
-        synchronized (lock) {
-            takeoffQueue.add(plane);
-            lock.notifyAll();
-        }
-    }
-
-    public void reportLanding(Airplane plane, int currentCount) {
-        System.out.println("ATC: " + plane.getName() + " has landed. Current capacity " + currentCount + "/3");
-    }
-
-    public void signalRunwayVacated(Airplane plane) {
-        synchronized (lock) {
-            System.out.println("ATC: Runway vacated by " + plane.getName());
-            runwayFree = true;
-            if (!plane.isWaitingForLanding()) {
-                plane.setClearedForTakeoff(false);
-            }
-            lock.notifyAll();
-        }
-    }
-
-    public int requestGate(Airplane plane, boolean isEmergency) throws InterruptedException {
-        synchronized (airport.getGateLock()) {
-            while (true) {
-                for (int i = 0; i < airport.getGates().length; i++) {
-                    if (airport.getGates()[i].isFree()) {
-                        System.out.println("ATC: Gate-" + i + " assigned for " + plane.getName());
-                        airport.getGates()[i].assignPlane(plane);
-                        return i;
-                    }
-                }
-                System.out.println("ATC: No gates available for " + plane.getName() + ", waiting...");
-                airport.getGateLock().wait();
-            }
-        }
-    }
-
-    public void releaseGate(int gateId, Airplane plane) {
-        synchronized (airport.getGateLock()) {
-            airport.getGates()[gateId].releasePlane();
-            System.out.println("ATC: " + plane.getName() + " left Gate-" + gateId);
-            airport.getGateLock().notifyAll();
-        }
-    }
-}
-
-
+package com.mycompany.airportsimulation;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntPredicate;
+
+public class ATC {
+    private static final long IDLE_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Queue<Airplane> emergencyLandingQueue = new ArrayDeque<>();
+    private final Queue<Airplane> normalLandingQueue = new ArrayDeque<>();
+    private final Queue<Airplane> takeoffQueue = new ArrayDeque<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition runwayWorkAvailable = lock.newCondition();
+    private final Airport airport;
+    private final EventLog log;
+    private final Runway[] runways;
+    private final Airplane[] runwayOccupants;
+    private final IntPredicate runwayBusy;
+    private final RunwaySequencer sequencer;
+    private Thread dispatcher;
+    private boolean closed;
+    private boolean grantSignalled;
+    private long grantableSince;
+    private long grants;
+    private long totalGrantLatencyNanos;
+    private long maxGrantLatencyNanos;
+    private long dispatcherWakeups;
+
+    public ATC(Airport airport) {
+        this.airport = airport;
+        this.log = airport.getEventLog();
+        this.runways = airport.getRunways();
+        this.runwayOccupants = new Airplane[runways.length];
+        this.runwayBusy = id -> runwayOccupants[id] != null;
+        this.sequencer = airport.getConfig().createRunwaySequencer(runways);
+    }
+
+    // Sleeps until some queued request fits a free runway; requests and vacated runways
+    // signal only on that transition, so there is no polling. Each wake-up grants as many
+    // runways as it can, in the order RunwaySequencer picks. The dispatcher thread is started
+    // by the first grantable request and exits after a second with nothing to do, or when
+    // interrupted by close; the next request starts a new one.
+    private void dispatch() {
+        lock.lock();
+        try {
+            while (true) {
+                while (!canGrant()) {
+                    long remaining = runwayWorkAvailable.awaitNanos(IDLE_NANOS);
+                    // A cancelled landing can take back the work that was signalled.
+                    grantSignalled = false;
+                    if (remaining <= 0 && !canGrant()) {
+                        return;
+                    }
+                    dispatcherWakeups++;
+                }
+                grantSignalled = false;
+                while (grantNext()) {
+                    long latency = System.nanoTime() - grantableSince;
+                    grants++;
+                    totalGrantLatencyNanos += latency;
+                    maxGrantLatencyNanos = Math.max(maxGrantLatencyNanos, latency);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (dispatcher == Thread.currentThread()) {
+                dispatcher = null;
+            }
+            lock.unlock();
+        }
+    }
+
+    // Stops the dispatcher and refuses to start another. Requests still queued are never granted.
+    // Waits through interrupts for up to Airport.SHUTDOWN_MILLIS and passes them on once it returns.
+    public void close() {
+        Thread running;
+        lock.lock();
+        try {
+            closed = true;
+            running = dispatcher;
+        } finally {
+            lock.unlock();
+        }
+        if (running != null) {
+            running.interrupt();
+            UninterruptibleWait.join(running, System.nanoTime() + Airport.SHUTDOWN_MILLIS * 1_000_000);
+        }
+    }
+
+    // Null while no dispatcher is running.
+    public Thread getDispatcherThread() {
+        lock.lock();
+        try {
+            return dispatcher;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean grantNext() {
+        RunwaySequencer.Grant grant = sequencer.next(requestedAt(emergencyLandingQueue),
+                requestedAt(normalLandingQueue), requestedAt(takeoffQueue), System.currentTimeMillis(), runwayBusy);
+        if (grant == null) {
+            return false;
+        }
+        Runway runway = grant.runway();
+        Airplane plane;
+        switch (grant.movement()) {
+            case EMERGENCY_LANDING -> {
+                plane = emergencyLandingQueue.poll();
+                log.record(EventType.EMERGENCY_LANDING_GRANTED, plane.getName(), runway.getId(), runways.length);
+            }
+            case LANDING -> {
+                plane = normalLandingQueue.poll();
+                log.record(EventType.LANDING_GRANTED, plane.getName(), runway.getId(), runways.length);
+            }
+            default -> {
+                plane = takeoffQueue.poll();
+                log.record(EventType.TAKEOFF_GRANTED, plane.getName(), runway.getId(), runways.length);
+            }
+        }
+        occupy(runway, plane);
+        boolean landing = grant.movement() != RunwaySequencer.Movement.TAKEOFF;
+        long runwayMillis = sequencer.occupy(runway, landing);
+        airport.getMonitor().recordMovement(landing);
+        AirportEvents.RunwayGrant event = new AirportEvents.RunwayGrant();
+        if (event.shouldCommit()) {
+            event.plane = plane.getName();
+            event.runway = runway.getId();
+            event.movement = grant.movement().name();
+            event.runwayMillis = runwayMillis;
+            event.emergencyQueue = emergencyLandingQueue.size();
+            event.landingQueue = normalLandingQueue.size();
+            event.takeoffQueue = takeoffQueue.size();
+            event.commit();
+        }
+        if (landing) {
+            plane.grantLanding(runway, runwayMillis);
+        } else {
+            plane.grantTakeoff(runway, runwayMillis);
+        }
+        return true;
+    }
+
+    private static long requestedAt(Queue<Airplane> queue) {
+        Airplane head = queue.peek();
+        return head == null ? -1 : head.getRunwayRequestedAt();
+    }
+
+    private boolean canGrant() {
+        return (!emergencyLandingQueue.isEmpty() || !normalLandingQueue.isEmpty())
+                && sequencer.freeRunway(true, runwayBusy) != null
+                || !takeoffQueue.isEmpty() && sequencer.freeRunway(false, runwayBusy) != null;
+    }
+
+    private void occupy(Runway runway, Airplane plane) {
+        runwayOccupants[runway.getId()] = plane;
+    }
+
+    private void signalIfGrantable() {
+        if (!grantSignalled && canGrant()) {
+            grantSignalled = true;
+            grantableSince = System.nanoTime();
+            if (dispatcher == null && !closed) {
+                dispatcher = Thread.ofPlatform().name("ATC").daemon(true).unstarted(this::dispatch);
+                dispatcher.start();
+            } else {
+                runwayWorkAvailable.signal();
+            }
+        }
+    }
+
+    public void requestLanding(Airplane plane, boolean isEmergency) {
+        lock.lock();
+        try {
+            plane.setRunwayRequestedAt(System.currentTimeMillis());
+            if (isEmergency) {
+                emergencyLandingQueue.add(plane);
+            } else {
+                normalLandingQueue.add(plane);
+            }
+            signalIfGrantable();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Takes a diverting plane out of the landing queue. False if it has already been cleared.
+    public boolean cancelLanding(Airplane plane) {
+        lock.lock();
+        try {
+            return normalLandingQueue.remove(plane);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void requestTakeoff(Airplane plane) {
+        lock.lock();
+        try {
+            plane.setRunwayRequestedAt(System.currentTimeMillis());
+            takeoffQueue.add(plane);
+            signalIfGrantable();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void reportLanding(Airplane plane, int currentCount) {
+        log.record(EventType.LANDED, plane.getName(), currentCount, airport.getCapacity());
+    }
+
+    public void signalRunwayVacated(Airplane plane) {
+        lock.lock();
+        try {
+            Runway runway = plane.getRunway();
+            log.record(EventType.RUNWAY_VACATED, plane.getName(), runway.getId(), runways.length);
+            runwayOccupants[runway.getId()] = null;
+            signalIfGrantable();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getEmergencyLandingQueueDepth() {
+        lock.lock();
+        try {
+            return emergencyLandingQueue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getLandingQueueDepth() {
+        lock.lock();
+        try {
+            return normalLandingQueue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getTakeoffQueueDepth() {
+        lock.lock();
+        try {
+            return takeoffQueue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getBusyRunways() {
+        lock.lock();
+        try {
+            int busy = 0;
+            for (Airplane occupant : runwayOccupants) {
+                if (occupant != null) {
+                    busy++;
+                }
+            }
+            return busy;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getGrantCount() {
+        lock.lock();
+        try {
+            return grants;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getAverageGrantLatencyNanos() {
+        lock.lock();
+        try {
+            return grants == 0 ? 0 : totalGrantLatencyNanos / grants;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getMaxGrantLatencyNanos() {
+        lock.lock();
+        try {
+            return maxGrantLatencyNanos;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public RunwaySequencer getSequencer() {
+        return sequencer;
+    }
+
+    public long getDispatcherWakeups() {
+        lock.lock();
+        try {
+            return dispatcherWakeups;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int requestGate(Airplane plane, boolean isEmergency) throws InterruptedException {
+        AirportEvents.GateAssign event = new AirportEvents.GateAssign();
+        event.begin();
+        long start = System.nanoTime();
+        GateAllocator allocator = airport.getGateAllocator();
+        GatePolicy policy = airport.getConfig().getGatePolicy();
+        int homeStand = policy.homeStand(plane.getPlaneId(), allocator.getTotalGates());
+        int gateId = allocator.tryAcquire(homeStand);
+        if (gateId < 0) {
+            log.record(EventType.GATE_UNAVAILABLE, plane.getName());
+            gateId = allocator.acquire(policy.rank(isEmergency, plane.getPassengerCount()), homeStand);
+        }
+        log.record(EventType.GATE_ASSIGNED, plane.getName(), gateId);
+        airport.getGates()[gateId].assignPlane(plane);
+        airport.getMetrics().record(FlightMetrics.Phase.GATE_WAIT, isEmergency, System.nanoTime() - start);
+        event.end();
+        if (event.shouldCommit()) {
+            event.plane = plane.getName();
+            event.gate = gateId;
+            event.emergency = isEmergency;
+            event.commit();
+        }
+        return gateId;
+    }
+
+    public void releaseGate(int gateId, Airplane plane) {
+        airport.getGates()[gateId].releasePlane();
+        log.record(EventType.GATE_RELEASED, plane.getName(), gateId);
+        airport.getGateAllocator().release(gateId);
+        AirportEvents.GateRelease event = new AirportEvents.GateRelease();
+        if (event.shouldCommit()) {
+            event.plane = plane.getName();
+            event.gate = gateId;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.mycompany.airportsimulation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Usage: AdmissionStressRun [holdingPlanes] [capacity] [platform|virtual]
+// Fills the airport, parks the given number of planes in the holding pattern, then frees the
+// slots and lets every holding plane pass through one after another. Each admission is one
+// release handing its slot to the next plane, so the drain time per plane shows what a
+// release costs with that many planes still holding.
+public class AdmissionStressRun {
+
+    public static void main(String[] args) throws InterruptedException {
+        int holdingCount = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int capacity = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+        ExecutionMode mode = args.length > 2 ? ExecutionMode.parse(args[2]) : ExecutionMode.fromSystemProperty();
+
+        Airport airport = new Airport(AirportConfig.builder()
+                .gates(1)
+                .capacity(capacity)
+                .serviceTimes(ServiceTimes.DEFAULT.scaled(0))
+                .executionMode(mode)
+                .build(), EventLog.silent());
+        CapacityAdmission admission = airport.getAdmission();
+
+        List<Airplane> parked = new ArrayList<>(capacity);
+        for (int i = 0; i < capacity; i++) {
+            Airplane plane = new Airplane("P" + i, airport, false);
+            airport.acquireAirportCapacity(plane, false);
+            parked.add(plane);
+        }
+
+        List<Thread> threads = new ArrayList<>(holdingCount);
+        for (int i = 1; i <= holdingCount; i++) {
+            Airplane plane = new Airplane(String.valueOf(i), airport, i % 50 == 0);
+            Thread thread = mode.newThread(plane.getName(), () -> {
+                try {
+                    airport.acquireAirportCapacity(plane, plane.isEmergency());
+                    airport.releaseAirportCapacity(plane);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        while (admission.getHoldingCount() < holdingCount) {
+            Thread.sleep(10);
+        }
+
+        long start = System.nanoTime();
+        for (Airplane plane : parked) {
+            airport.releaseAirportCapacity(plane);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        System.out.println("=== Admission Stress: " + holdingCount + " holding planes, capacity " + capacity
+                + ", " + mode + " threads ===");
+        System.out.println("Drained in " + elapsedNanos / 1_000_000 + " ms, "
+                + elapsedNanos / holdingCount / 1000 + " us per admission");
+        System.out.println("Hand-offs: " + admission.getHandoffs() + ", holding-plane wake-ups: "
+                + admission.getWakeups());
+        // Emergencies overtake the normal queue, so they should come out of the drain well ahead.
+        for (boolean emergency : new boolean[] {false, true}) {
+            LatencyHistogram.Snapshot wait = airport.getMetrics().snapshot(FlightMetrics.Phase.CAPACITY_WAIT, emergency);
+            System.out.printf("Capacity wait (%s): mean %.0f ms, max %d ms%n", emergency ? "emergency" : "normal",
+                    wait.getMean() / 1_000_000, wait.getMax() / 1_000_000);
+        }
+        airport.close();
+        System.out.println("=== END ===");
+    }
+}
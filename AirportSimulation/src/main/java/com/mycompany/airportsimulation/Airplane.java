@@ -1,131 +1,297 @@
-package com.mycompany.airportsimulation;
-
-import java.util.Random;
-
-public class Airplane extends Thread {
-    private final String id;
-    private final int initialPassengerCount;
-    private int departingPassengerCount;
-    private final Airport airport;
-    private int gateId;
-    private final boolean emergency;
-    private long arrivalTime;
-    private long waitingStartTime;
-    private long waitingEndTime;
-    private final Random rand = new Random();
-
-    private final Object landingLock = new Object();
-    private final Object takeoffLock = new Object();
-    private boolean waitingForLanding = true;
-    private boolean clearedForTakeoff = false;
-
-    public Airplane(String id, Airport airport, boolean emergency) {
-        this.id = id;
-        this.airport = airport;
-        this.emergency = emergency;
-        this.initialPassengerCount = id.equals("1") ? 10 : rand.nextInt(40) + 10;
-        setName("Plane-" + id + (emergency ? "-EMERGENCY" : ""));
-    }
-
-    public String getPlaneId() {
-        return id;
-    }
-
-    public int getPassengerCount() {
-        return initialPassengerCount;
-    }
-
-    public int getDepartingPassengerCount() {
-        return departingPassengerCount;
-    }
-
-    public void setDepartingPassengerCount(int count) {
-        this.departingPassengerCount = count;
-    }
-
-    public long getWaitingTime() {
-        return waitingEndTime - waitingStartTime;
-    }
-
-    public boolean isEmergency() {
-        return emergency;
-    }
-
-    public Airport getAirport() {
-        return airport;
-    }
-
-    public Object getLandingLock() {
-        return landingLock;
-    }
-
-    public Object getTakeoffLock() {
-        return takeoffLock;
-    }
-
-    public boolean isWaitingForLanding() {
-        return waitingForLanding;
-    }
-
-    public boolean isClearedForTakeoff() {
-        return clearedForTakeoff;
-    }
-
-    public void setClearedForTakeoff(boolean cleared) {
-        this.clearedForTakeoff = cleared;
-    }
-
-    @Override
-    public void run() {
-        try {
-            arrivalTime = System.currentTimeMillis();
-            System.out.println(getName() + ": Requesting landing" + (emergency ? " (EMERGENCY)" : "") + ".");
-            waitingStartTime = System.currentTimeMillis();
-
-            airport.acquireAirportCapacity(this, emergency);
-            airport.getATC().requestLanding(this, emergency);
-            
-            synchronized (landingLock) {
-                landingLock.wait();
-            }
-
-            System.out.println(getName() + ": Landing...");
-            Thread.sleep(1000);
-            int currentCount = airport.incrementGroundPlanes();
-            airport.getATC().reportLanding(this, currentCount);
-
-            gateId = airport.getATC().requestGate(this, emergency);
-            airport.getATC().signalRunwayVacated(this);
-            waitingEndTime = System.currentTimeMillis();
-            waitingForLanding = false;
-
-            System.out.println(getName() + ": Landed successfully after waiting " + getWaitingTime() + "ms.");
-            System.out.println(getName() + ": Coasting to Gate-" + gateId + ".");
-            Thread.sleep(500);
-
-            airport.signalReadyForGateOperations(this);
-
-            synchronized (this) {
-                this.wait();
-            }
-
-            airport.getATC().requestTakeoff(this);
-            synchronized (takeoffLock) {
-                while (!isClearedForTakeoff()) {
-                    takeoffLock.wait();
-                }
-            }
-
-            System.out.println(getName() + ": Taking off...");
-            Thread.sleep(1000);
-            airport.getATC().signalRunwayVacated(this);
-            airport.releaseAirportCapacity(this);
-            airport.decrementGroundPlanes(); // ✅ FIX: Track ground count
-            System.out.println(getName() + ": Successfully completed all operations.");
-
-        } catch (InterruptedException e) {
-            System.out.println(getName() + ": Interrupted - " + e.getMessage());
-            Thread.currentThread().interrupt();
-        }
-    }
-}
+package com.mycompany.airportsimulation;
+
+import java.util.Random;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class Airplane implements Runnable {
+    private final String id;
+    private final String name;
+    private final int initialPassengerCount;
+    private int departingPassengerCount;
+    private final Airport airport;
+    private final EventLog log;
+    private int gateId;
+    private final boolean emergency;
+    private final String aircraftType;
+    private long arrivalTime;
+    private long waitingStartTime;
+    private long waitingEndTime;
+    private final Random rand;
+    private Thread thread;
+    private volatile Runway runway;
+    private volatile long runwayMillis;
+    private long runwayRequestedAt;
+
+    // Hand-offs from ATC and the gate only ever move the clearance forward, under the lock,
+    // and the plane waits for "at least" a clearance. A grant that lands before the plane
+    // starts waiting is therefore never lost, and nothing resets a flag behind its back.
+    public enum Clearance {
+        NONE,
+        LANDING,
+        TURNAROUND_COMPLETE,
+        TAKEOFF
+    }
+
+    // Timeout for a clearance wait with no deadline.
+    private static final long UNTIMED = Long.MAX_VALUE;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition clearanceChanged = lock.newCondition();
+    private Clearance clearance = Clearance.NONE;
+    private volatile boolean diverted = false;
+
+    public Airplane(String id, Airport airport, boolean emergency) {
+        this(id, airport, emergency, AirportConfig.DEFAULT_AIRCRAFT_TYPE);
+    }
+
+    public Airplane(String id, Airport airport, boolean emergency, String aircraftType) {
+        this.id = id;
+        this.aircraftType = aircraftType;
+        this.airport = airport;
+        this.log = airport.getEventLog();
+        this.emergency = emergency;
+        this.rand = EntityRandom.forEntity(airport.getConfig().getSeed(), id);
+        this.initialPassengerCount = id.equals("1") ? 10 : rand.nextInt(40) + 10;
+        this.name = "Plane-" + id + (emergency ? "-EMERGENCY" : "");
+    }
+
+    public void start() {
+        thread = airport.getExecutionMode().newThread(name, this);
+        thread.start();
+    }
+
+    public void join(long millis) throws InterruptedException {
+        thread.join(millis);
+    }
+
+    public boolean isAlive() {
+        return thread != null && thread.isAlive();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getPlaneId() {
+        return id;
+    }
+
+    public int getPassengerCount() {
+        return initialPassengerCount;
+    }
+
+    public int getDepartingPassengerCount() {
+        return departingPassengerCount;
+    }
+
+    public void setDepartingPassengerCount(int count) {
+        this.departingPassengerCount = count;
+    }
+
+    // Drawn from the plane's own seeded stream, so a replay boards the same passengers.
+    public int drawDepartingPassengerCount() {
+        return rand.nextInt(50) + 1;
+    }
+
+    public int getGateId() {
+        return gateId;
+    }
+
+    public long getWaitingTime() {
+        return waitingEndTime - waitingStartTime;
+    }
+
+    public boolean isEmergency() {
+        return emergency;
+    }
+
+    public String getAircraftType() {
+        return aircraftType;
+    }
+
+    public Airport getAirport() {
+        return airport;
+    }
+
+    // Turned away or out of holding fuel; a diverted plane never lands here.
+    public boolean isDiverted() {
+        return diverted;
+    }
+
+    public Clearance getClearance() {
+        lock.lock();
+        try {
+            return clearance;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Runway getRunway() {
+        return runway;
+    }
+
+    // When the plane joined its current runway queue. Guarded by the ATC lock.
+    long getRunwayRequestedAt() {
+        return runwayRequestedAt;
+    }
+
+    void setRunwayRequestedAt(long time) {
+        this.runwayRequestedAt = time;
+    }
+
+    // runwayMillis is how long the movement occupies the runway, changeover included.
+    public void grantLanding(Runway runway, long runwayMillis) {
+        advance(Clearance.LANDING, runway, runwayMillis);
+    }
+
+    public void grantTakeoff(Runway runway, long runwayMillis) {
+        advance(Clearance.TAKEOFF, runway, runwayMillis);
+    }
+
+    public void completeTurnaround() {
+        advance(Clearance.TURNAROUND_COMPLETE, null, 0);
+    }
+
+    public void awaitLandingClearance() throws InterruptedException {
+        await(Clearance.LANDING, UNTIMED);
+    }
+
+    // False if the time ran out first; the grant may still arrive while the caller cancels.
+    public boolean awaitLandingClearance(long timeoutNanos) throws InterruptedException {
+        return await(Clearance.LANDING, timeoutNanos);
+    }
+
+    public void awaitTurnaroundComplete() throws InterruptedException {
+        await(Clearance.TURNAROUND_COMPLETE, UNTIMED);
+    }
+
+    public void awaitTakeoffClearance() throws InterruptedException {
+        await(Clearance.TAKEOFF, UNTIMED);
+    }
+
+    // Each clearance is given exactly once and in order; anything else is a protocol bug.
+    // Runway clearances also hand over the runway, which the plane reads once it wakes.
+    private void advance(Clearance next, Runway runway, long runwayMillis) {
+        lock.lock();
+        try {
+            if (next.ordinal() != clearance.ordinal() + 1) {
+                throw new IllegalStateException(name + ": " + next + " given after " + clearance);
+            }
+            if (runway != null) {
+                this.runway = runway;
+                this.runwayMillis = runwayMillis;
+            }
+            clearance = next;
+            clearanceChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Waits for at least the given clearance; UNTIMED waits as long as it takes. Any other
+    // timeout is a deadline, so zero or less returns false at once unless already cleared.
+    private boolean await(Clearance target, long timeoutNanos) throws InterruptedException {
+        lock.lock();
+        try {
+            long remaining = timeoutNanos;
+            while (clearance.compareTo(target) < 0) {
+                if (timeoutNanos == UNTIMED) {
+                    clearanceChanged.await();
+                } else if (remaining <= 0) {
+                    return false;
+                } else {
+                    remaining = clearanceChanged.awaitNanos(remaining);
+                }
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void run() {
+        if (!airport.enter()) {
+            diverted = true;
+            log.record(EventType.AIRPORT_CLOSED, name);
+            return;
+        }
+        FlightMetrics metrics = airport.getMetrics();
+        try {
+            arrivalTime = System.currentTimeMillis();
+            log.record(EventType.LANDING_REQUESTED, name, emergency ? 1 : 0);
+            waitingStartTime = System.currentTimeMillis();
+
+            // Holding fuel covers the wait for ground capacity and then for the runway.
+            long holdingStart = System.nanoTime();
+            long fuelNanos = emergency ? 0 : airport.getHoldingFuelNanos();
+            CapacityAdmission.Outcome outcome = airport.acquireAirportCapacity(this, emergency);
+            if (outcome != CapacityAdmission.Outcome.ADMITTED) {
+                divert(outcome == CapacityAdmission.Outcome.REJECTED, holdingStart);
+                return;
+            }
+            long runwayRequested = System.nanoTime();
+            airport.getATC().requestLanding(this, emergency);
+            if (fuelNanos <= 0) {
+                awaitLandingClearance();
+            } else if (!awaitLandingClearance(holdingStart + fuelNanos - runwayRequested)) {
+                if (airport.getATC().cancelLanding(this)) {
+                    airport.releaseAirportCapacity(this);
+                    divert(false, holdingStart);
+                    return;
+                }
+                awaitLandingClearance();
+            }
+            metrics.record(FlightMetrics.Phase.LANDING_RUNWAY_WAIT, emergency, System.nanoTime() - runwayRequested);
+
+            log.record(EventType.LANDING_STARTED, name);
+            Thread.sleep(runwayMillis);
+            int currentCount = airport.incrementGroundPlanes();
+            airport.getATC().reportLanding(this, currentCount);
+
+            gateId = airport.getATC().requestGate(this, emergency);
+            airport.getATC().signalRunwayVacated(this);
+            waitingEndTime = System.currentTimeMillis();
+
+            log.record(EventType.LANDING_COMPLETE, name, getWaitingTime());
+            log.record(EventType.TAXI_TO_GATE, name, gateId);
+            Thread.sleep(airport.getConfig().taxiMillis(gateId));
+
+            airport.signalReadyForGateOperations(this);
+
+            awaitTurnaroundComplete();
+
+            runwayRequested = System.nanoTime();
+            airport.getATC().requestTakeoff(this);
+            awaitTakeoffClearance();
+            metrics.record(FlightMetrics.Phase.TAKEOFF_RUNWAY_WAIT, emergency, System.nanoTime() - runwayRequested);
+
+            log.record(EventType.TAKEOFF_STARTED, name);
+            Thread.sleep(runwayMillis);
+            airport.getATC().signalRunwayVacated(this);
+            airport.releaseAirportCapacity(this);
+            airport.decrementGroundPlanes(); // ✅ FIX: Track ground count
+            metrics.recordFlightCompleted(initialPassengerCount + departingPassengerCount);
+            log.record(EventType.FLIGHT_COMPLETE, name);
+
+        } catch (InterruptedException e) {
+            log.message(getName() + ": Interrupted - " + e.getMessage());
+            Thread.currentThread().interrupt();
+        } finally {
+            airport.leave();
+        }
+    }
+
+    private void divert(boolean rejected, long holdingStart) {
+        diverted = true;
+        long heldMillis = (System.nanoTime() - holdingStart) / 1_000_000;
+        airport.getMetrics().recordDiversion(rejected);
+        if (rejected) {
+            log.record(EventType.HOLDING_REJECTED, name, airport.getConfig().getHoldingLimit());
+        } else {
+            log.record(EventType.DIVERTED, name, heldMillis);
+        }
+    }
+}
@@ -1,88 +1,313 @@
-package com.mycompany.airportsimulation;
-
-import java.util.ArrayDeque;
-import java.util.Queue;
-import java.util.concurrent.Semaphore;
-import java.util.concurrent.atomic.AtomicInteger;
-
-public class Airport {
-    private static final int TOTAL_GATES = 3;
-    private static final int AIRPORT_CAPACITY = 3;
-
-    private final Gate[] gates = new Gate[TOTAL_GATES];
-    private final Object gateLock = new Object();
-    private final ATC atc = new ATC(this);
-    final Semaphore airportCapacity = new Semaphore(AIRPORT_CAPACITY, true);
-    private final Object capacityLock = new Object();
-    private final Queue<Airplane> emergencyLandingQueue = new ArrayDeque<>();
-    private final Queue<Airplane> normalLandingQueue = new ArrayDeque<>();
-    private final AtomicInteger currentGroundPlanes = new AtomicInteger(0);
-
-    public Airport() {
-        for (int i = 0; i < TOTAL_GATES; i++) {
-            gates[i] = new Gate(i, this);
-            gates[i].start();
-        }
-        atc.start();
-    }
-
-    public void signalReadyForGateOperations(Airplane plane) {
-        for (Gate gate : gates) {
-            if (gate.isAssignedTo(plane)) {
-                gate.signalPlaneReady();
-                break;
-            }
-        }
-    }
-
-    public void acquireAirportCapacity(Airplane plane, boolean isEmergency) throws InterruptedException {
-        synchronized (capacityLock) {
-            (isEmergency ? emergencyLandingQueue : normalLandingQueue).add(plane);
-            while (true) {
-                boolean atHead = isEmergency
-                        ? emergencyLandingQueue.peek() == plane
-                        : emergencyLandingQueue.isEmpty() && normalLandingQueue.peek() == plane;
-                if (atHead && airportCapacity.availablePermits() > 0) {
-                    airportCapacity.acquire();
-                    (isEmergency ? emergencyLandingQueue : normalLandingQueue).remove();
-                    break;
-                }
-                if (atHead && airportCapacity.availablePermits() == 0) {
-                    System.out.println(plane.getName() + ": Waiting for ground space - airport at full capacity (3/3)");
-                }
-                capacityLock.wait();
-            }
-        }
-    }
-
-    public void releaseAirportCapacity(Airplane plane) {
-        airportCapacity.release();
-        synchronized (capacityLock) {
-            capacityLock.notifyAll();
-        }
-    }
-
-    public int incrementGroundPlanes() {
-        return currentGroundPlanes.incrementAndGet();
-    }
-
-    public int decrementGroundPlanes() {
-        return currentGroundPlanes.decrementAndGet();
-    }
-
-    public int getCurrentGroundPlanes() {
-        return currentGroundPlanes.get();
-    }
-
-    public Gate[] getGates() {
-        return gates;
-    }
-
-    public Object getGateLock() {
-        return gateLock;
-    }
-
-    public ATC getATC() {
-        return atc;
-    }
-}
+package com.mycompany.airportsimulation;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Nothing runs until the first plane arrives: the ATC dispatcher and the ground-service
+// workers start on demand and wind down when idle. drain() turns new arrivals away and waits
+// for the planes already here; close() interrupts any that are left and stops everything the
+// airport started, so a process can create and discard airports freely.
+public class Airport implements AutoCloseable {
+    static final long SHUTDOWN_MILLIS = 5_000;
+
+    public enum State {
+        NEW,
+        RUNNING,
+        DRAINING,
+        CLOSED
+    }
+
+    private final AirportConfig config;
+    private final Gate[] gates;
+    private final GateAllocator gateAllocator;
+    private final Runway[] runways;
+    private final ATC atc;
+    private final EventLog eventLog;
+    private final FlightMetrics metrics = new FlightMetrics();
+    private final AirportMonitor monitor = new AirportMonitor(this);
+    private final int capacity;
+    private final CapacityAdmission admission;
+    private final AtomicInteger currentGroundPlanes = new AtomicInteger(0);
+    private final ServiceTimes serviceTimes;
+    private final long holdingFuelNanos;
+    private final GroundServices groundServices;
+    private final ExecutionMode executionMode;
+    private final boolean ownsEventLog;
+    private final ReentrantLock lifecycleLock = new ReentrantLock();
+    private final Condition emptied = lifecycleLock.newCondition();
+    private final Set<Thread> planesHere = new HashSet<>();
+    private State state = State.NEW;
+
+    public Airport() {
+        this(AirportConfig.defaults());
+    }
+
+    public Airport(int totalGates, int capacity, ServiceTimes serviceTimes, ExecutionMode executionMode) {
+        this(AirportConfig.builder()
+                .gates(totalGates)
+                .capacity(capacity)
+                .serviceTimes(serviceTimes)
+                .executionMode(executionMode)
+                .build());
+    }
+
+    // The airport opens its own event log and closes it in close().
+    public Airport(AirportConfig config) {
+        this(config, EventLog.open(config, System::currentTimeMillis, config.getSeed()), true);
+    }
+
+    // The caller keeps ownership of eventLog.
+    public Airport(AirportConfig config, EventLog eventLog) {
+        this(config, eventLog, false);
+    }
+
+    private Airport(AirportConfig config, EventLog eventLog, boolean ownsEventLog) {
+        this.config = config;
+        this.ownsEventLog = ownsEventLog;
+        this.eventLog = eventLog;
+        this.gates = new Gate[config.getGates()];
+        this.gateAllocator = new GateAllocator(config.getGates());
+        this.runways = config.createRunways();
+        this.capacity = config.getCapacity();
+        this.admission = new CapacityAdmission(capacity, config.getHoldingLimit());
+        this.serviceTimes = config.getServiceTimes();
+        this.holdingFuelNanos = serviceTimes.scale(config.getHoldingFuelMillis()) * 1_000_000;
+        this.executionMode = config.getExecutionMode();
+        this.groundServices = new GroundServices(config.getRefuelTrucks(), config.getCleaningCrews(),
+                config.getBoardingStaff(), serviceTimes, executionMode, eventLog, metrics);
+        this.atc = new ATC(this);
+        for (int i = 0; i < gates.length; i++) {
+            gates[i] = new Gate(i, this);
+        }
+    }
+
+    // Opens the airport; the first arrival does this by itself. Registers the MBean if enabled.
+    public void start() {
+        lifecycleLock.lock();
+        try {
+            if (state == State.CLOSED) {
+                throw new IllegalStateException("Airport is closed");
+            }
+            if (state == State.NEW) {
+                state = State.RUNNING;
+                if (config.isJmxEnabled()) {
+                    monitor.register();
+                }
+            }
+        } finally {
+            lifecycleLock.unlock();
+        }
+    }
+
+    // Called by a plane as it arrives, on its own thread. False once the airport is draining
+    // or closed, in which case the plane must go elsewhere and not call leave().
+    public boolean enter() {
+        lifecycleLock.lock();
+        try {
+            if (state == State.NEW) {
+                start();
+            }
+            if (state != State.RUNNING) {
+                return false;
+            }
+            planesHere.add(Thread.currentThread());
+            return true;
+        } finally {
+            lifecycleLock.unlock();
+        }
+    }
+
+    // Called by a plane that entered once it has taken off, diverted or given up.
+    public void leave() {
+        lifecycleLock.lock();
+        try {
+            planesHere.remove(Thread.currentThread());
+            if (planesHere.isEmpty()) {
+                emptied.signalAll();
+            }
+        } finally {
+            lifecycleLock.unlock();
+        }
+    }
+
+    // Turns further arrivals away and waits for the planes already here to leave.
+    // False if some were still here when the time ran out.
+    public boolean drain(long timeout, TimeUnit unit) throws InterruptedException {
+        lifecycleLock.lock();
+        try {
+            if (state == State.NEW || state == State.RUNNING) {
+                state = State.DRAINING;
+            }
+            long remaining = unit.toNanos(timeout);
+            while (!planesHere.isEmpty()) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = emptied.awaitNanos(remaining);
+            }
+            return true;
+        } finally {
+            lifecycleLock.unlock();
+        }
+    }
+
+    // Does not wait for planes still here: they are interrupted and abandon their flights.
+    // Drain first for an orderly shutdown. Safe to call more than once. Each step waits at most
+    // SHUTDOWN_MILLIS and carries on through interrupts, which are passed on once it returns.
+    @Override
+    public void close() {
+        List<Thread> abandoned;
+        lifecycleLock.lock();
+        try {
+            if (state == State.CLOSED) {
+                return;
+            }
+            state = State.CLOSED;
+            abandoned = new ArrayList<>(planesHere);
+        } finally {
+            lifecycleLock.unlock();
+        }
+        for (Thread plane : abandoned) {
+            plane.interrupt();
+        }
+        long deadline = System.nanoTime() + SHUTDOWN_MILLIS * 1_000_000;
+        for (Thread plane : abandoned) {
+            UninterruptibleWait.join(plane, deadline);
+        }
+        atc.close();
+        groundServices.shutdown(SHUTDOWN_MILLIS, TimeUnit.MILLISECONDS);
+        monitor.unregister();
+        if (ownsEventLog) {
+            eventLog.close();
+        }
+    }
+
+    public State getState() {
+        lifecycleLock.lock();
+        try {
+            return state;
+        } finally {
+            lifecycleLock.unlock();
+        }
+    }
+
+    public int getPlanesHere() {
+        lifecycleLock.lock();
+        try {
+            return planesHere.size();
+        } finally {
+            lifecycleLock.unlock();
+        }
+    }
+
+    public void signalReadyForGateOperations(Airplane plane) {
+        gates[plane.getGateId()].signalPlaneReady();
+    }
+
+    // Normal planes hold for at most timeoutNanos (0 for no limit); emergencies always wait.
+    public CapacityAdmission.Outcome acquireAirportCapacity(Airplane plane, boolean isEmergency, long timeoutNanos)
+            throws InterruptedException {
+        AirportEvents.CapacityAcquire event = new AirportEvents.CapacityAcquire();
+        event.begin();
+        long start = System.nanoTime();
+        CapacityAdmission.Outcome outcome = admission.acquire(isEmergency, isEmergency ? 0 : timeoutNanos, () -> {
+            event.held = true;
+            eventLog.record(EventType.CAPACITY_FULL, plane.getName(), capacity, capacity);
+        });
+        if (outcome == CapacityAdmission.Outcome.ADMITTED) {
+            metrics.record(FlightMetrics.Phase.CAPACITY_WAIT, isEmergency, System.nanoTime() - start);
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.plane = plane.getName();
+            event.emergency = isEmergency;
+            event.outcome = outcome.name();
+            event.commit();
+        }
+        return outcome;
+    }
+
+    public CapacityAdmission.Outcome acquireAirportCapacity(Airplane plane, boolean isEmergency)
+            throws InterruptedException {
+        return acquireAirportCapacity(plane, isEmergency, holdingFuelNanos);
+    }
+
+    public void releaseAirportCapacity(Airplane plane) {
+        admission.release();
+    }
+
+    public int incrementGroundPlanes() {
+        return currentGroundPlanes.incrementAndGet();
+    }
+
+    public int decrementGroundPlanes() {
+        return currentGroundPlanes.decrementAndGet();
+    }
+
+    public int getCurrentGroundPlanes() {
+        return currentGroundPlanes.get();
+    }
+
+    // 0 when planes may hold indefinitely.
+    public long getHoldingFuelNanos() {
+        return holdingFuelNanos;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public CapacityAdmission getAdmission() {
+        return admission;
+    }
+
+    public AirportConfig getConfig() {
+        return config;
+    }
+
+    public Runway[] getRunways() {
+        return runways;
+    }
+
+    public Gate[] getGates() {
+        return gates;
+    }
+
+    public GateAllocator getGateAllocator() {
+        return gateAllocator;
+    }
+
+    public AirportMonitor getMonitor() {
+        return monitor;
+    }
+
+    public ATC getATC() {
+        return atc;
+    }
+
+    public FlightMetrics getMetrics() {
+        return metrics;
+    }
+
+    public EventLog getEventLog() {
+        return eventLog;
+    }
+
+    public ServiceTimes getServiceTimes() {
+        return serviceTimes;
+    }
+
+    public GroundServices getGroundServices() {
+        return groundServices;
+    }
+
+    public ExecutionMode getExecutionMode() {
+        return executionMode;
+    }
+}
@@ -0,0 +1,551 @@
+package com.mycompany.airportsimulation;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+public final class AirportConfig {
+    public static final String PROPERTY = "airport.config";
+    public static final String DEFAULT_AIRCRAFT_TYPE = "default";
+    public static final String TRACE_PROPERTY = "airport.trace";
+    public static final String CONSOLE_PROPERTY = "airport.console";
+
+    private final int gates;
+    private final int capacity;
+    private final int refuelTrucks;
+    private final int cleaningCrews;
+    private final int boardingStaff;
+    private final List<RunwaySpec> runways;
+    private final long changeoverMillis;
+    private final RunwayPolicy sequencing;
+    private final int runwayBatch;
+    private final long takeoffMaxWaitMillis;
+    private final int holdingLimit;
+    private final long holdingFuelMillis;
+    private final GatePolicy gatePolicy;
+    private final long standTaxiMillis;
+    private final int seats;
+    private final int boardingGroups;
+    private final int maxBags;
+    private final int connectPercent;
+    private final int destinations;
+    private final long minConnectMillis;
+    private final long maxConnectMillis;
+    private final Map<String, TurnaroundPlan> turnaroundPlans;
+    private final ServiceTimes serviceTimes;
+    private final ExecutionMode executionMode;
+    private final EventLog.Level logLevel;
+    private final boolean consoleEnabled;
+    private final Path tracePath;
+    private final boolean jmxEnabled;
+    private final long seed;
+
+    // Occupancy times below zero fall back to the landing/takeoff times in ServiceTimes.
+    public record RunwaySpec(RunwayMode mode, long landingMillis, long takeoffMillis) {
+    }
+
+    private AirportConfig(Builder builder) {
+        this.gates = builder.gates;
+        this.capacity = builder.capacity;
+        this.refuelTrucks = builder.refuelTrucks > 0 ? builder.refuelTrucks : builder.gates;
+        this.cleaningCrews = builder.cleaningCrews > 0 ? builder.cleaningCrews : builder.gates;
+        this.boardingStaff = builder.boardingStaff > 0 ? builder.boardingStaff : builder.gates;
+        this.runways = builder.runways.isEmpty()
+                ? List.of(new RunwaySpec(RunwayMode.MIXED, -1, -1))
+                : List.copyOf(builder.runways);
+        this.changeoverMillis = builder.changeoverMillis;
+        this.sequencing = builder.sequencing;
+        this.runwayBatch = builder.runwayBatch;
+        this.takeoffMaxWaitMillis = builder.takeoffMaxWaitMillis;
+        this.holdingLimit = builder.holdingLimit;
+        this.holdingFuelMillis = builder.holdingFuelMillis;
+        this.gatePolicy = builder.gatePolicy;
+        this.standTaxiMillis = builder.standTaxiMillis;
+        this.seats = builder.seats;
+        this.boardingGroups = builder.boardingGroups;
+        this.maxBags = builder.maxBags;
+        this.connectPercent = builder.connectPercent;
+        this.destinations = builder.destinations;
+        this.minConnectMillis = builder.minConnectMillis;
+        this.maxConnectMillis = builder.maxConnectMillis;
+        this.turnaroundPlans = Map.copyOf(builder.turnaroundPlans);
+        this.serviceTimes = builder.serviceTimes;
+        this.executionMode = builder.executionMode;
+        this.logLevel = builder.logLevel;
+        this.consoleEnabled = builder.consoleEnabled;
+        this.tracePath = builder.tracePath;
+        this.jmxEnabled = builder.jmxEnabled;
+        this.seed = builder.seed;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static AirportConfig defaults() {
+        return builder().build();
+    }
+
+    // Loads -Dairport.config when set, otherwise the built-in three-gate airport.
+    public static AirportConfig fromSystemProperty() throws IOException {
+        String file = System.getProperty(PROPERTY);
+        return file == null ? defaults() : load(Path.of(file));
+    }
+
+    public static AirportConfig load(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            properties.load(reader);
+        }
+        return fromProperties(properties);
+    }
+
+    // Keys left out keep their defaults. Runways are a comma-separated list of
+    // mode[:landingMillis:takeoffMillis], e.g. "arrivals, departures:0:900, mixed". Turnaround
+    // plans are "turnaround" for the default and "turnaround.<aircraftType>" per type.
+    // Sequencing is "fcfs", "priority" or "batched" (see RunwaySequencer) and gatePolicy is
+    // "fcfs", "priority", "shortest_turnaround" or "affinity" (see GateAllocator). holdingLimit
+    // and holdingFuelMillis bound the holding stack; 0 leaves it unbounded. The passenger keys
+    // (seats, boardingGroups, maxBags, connectPercent, destinations, min/maxConnectMillis) only
+    // affect the discrete-event engine; see PassengerFlow.
+    public static AirportConfig fromProperties(Properties properties) {
+        Builder builder = builder();
+        ServiceTimes base = ServiceTimes.DEFAULT;
+        builder.gates(intValue(properties, "gates", builder.gates));
+        builder.capacity(intValue(properties, "capacity", builder.capacity));
+        builder.groundResources(intValue(properties, "refuelTrucks", 0),
+                intValue(properties, "cleaningCrews", 0),
+                intValue(properties, "boardingStaff", 0));
+        builder.serviceTimes(new ServiceTimes(
+                longValue(properties, "landingMillis", base.landing()),
+                longValue(properties, "taxiMillis", base.taxi()),
+                longValue(properties, "takeoffMillis", base.takeoff()),
+                longValue(properties, "cleaningMillis", base.cleaning()),
+                longValue(properties, "refuelMillis", base.refuel()),
+                longValue(properties, "cateringMillis", base.catering()),
+                intValue(properties, "disembarkPerSecond", base.getDisembarkPerSecond()),
+                intValue(properties, "boardingPerSecond", base.getBoardingPerSecond()),
+                intValue(properties, "bagsPerSecond", base.getBagsPerSecond()),
+                Double.parseDouble(properties.getProperty("timeScale", "1.0").trim())));
+        String runwayList = properties.getProperty("runways");
+        if (runwayList != null) {
+            for (String entry : runwayList.split(",")) {
+                String[] parts = entry.trim().split(":");
+                RunwayMode mode = RunwayMode.valueOf(parts[0].trim().toUpperCase(Locale.ROOT));
+                if (parts.length == 3) {
+                    builder.runway(mode, Long.parseLong(parts[1].trim()), Long.parseLong(parts[2].trim()));
+                } else if (parts.length == 1) {
+                    builder.runway(mode);
+                } else {
+                    throw new IllegalArgumentException("Runway must be mode or mode:landing:takeoff: " + entry);
+                }
+            }
+        }
+        builder.changeoverMillis(longValue(properties, "changeoverMillis", builder.changeoverMillis));
+        String sequencing = properties.getProperty("sequencing");
+        builder.sequencing(sequencing == null ? builder.sequencing : RunwaySequencer.Policy.parse(sequencing),
+                intValue(properties, "runwayBatch", builder.runwayBatch),
+                longValue(properties, "takeoffMaxWaitMillis", builder.takeoffMaxWaitMillis));
+        builder.holding(intValue(properties, "holdingLimit", builder.holdingLimit),
+                longValue(properties, "holdingFuelMillis", builder.holdingFuelMillis));
+        String gatePolicy = properties.getProperty("gatePolicy");
+        builder.gatePolicy(gatePolicy == null ? builder.gatePolicy : GateAllocator.Policy.parse(gatePolicy),
+                longValue(properties, "standTaxiMillis", builder.standTaxiMillis));
+        builder.cabin(intValue(properties, "seats", builder.seats),
+                intValue(properties, "boardingGroups", builder.boardingGroups));
+        builder.baggage(intValue(properties, "maxBags", builder.maxBags));
+        builder.connections(intValue(properties, "connectPercent", builder.connectPercent),
+                intValue(properties, "destinations", builder.destinations),
+                longValue(properties, "minConnectMillis", builder.minConnectMillis),
+                longValue(properties, "maxConnectMillis", builder.maxConnectMillis));
+        for (String key : properties.stringPropertyNames()) {
+            if (key.equals("turnaround")) {
+                builder.turnaround(TurnaroundPlan.parse(properties.getProperty(key)));
+            } else if (key.startsWith("turnaround.")) {
+                builder.turnaround(key.substring("turnaround.".length()), TurnaroundPlan.parse(properties.getProperty(key)));
+            }
+        }
+        String threads = properties.getProperty("threads");
+        if (threads != null) {
+            builder.executionMode(ExecutionMode.parse(threads));
+        }
+        String log = properties.getProperty("log");
+        if (log != null) {
+            builder.logLevel(EventLog.Level.parse(log));
+        }
+        String console = properties.getProperty("console");
+        if (console != null) {
+            builder.console(Boolean.parseBoolean(console.trim()));
+        }
+        String trace = properties.getProperty("trace");
+        if (trace != null) {
+            builder.trace(Path.of(trace.trim()));
+        }
+        String jmx = properties.getProperty("jmx");
+        if (jmx != null) {
+            builder.jmx(Boolean.parseBoolean(jmx.trim()));
+        }
+        String seed = properties.getProperty("seed");
+        if (seed != null) {
+            builder.seed(Long.parseLong(seed.trim()));
+        }
+        return builder.build();
+    }
+
+    private static int intValue(Properties properties, String key, int fallback) {
+        String value = properties.getProperty(key);
+        return value == null ? fallback : Integer.parseInt(value.trim());
+    }
+
+    private static long longValue(Properties properties, String key, long fallback) {
+        String value = properties.getProperty(key);
+        return value == null ? fallback : Long.parseLong(value.trim());
+    }
+
+    public int getGates() {
+        return gates;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getRefuelTrucks() {
+        return refuelTrucks;
+    }
+
+    public int getCleaningCrews() {
+        return cleaningCrews;
+    }
+
+    public int getBoardingStaff() {
+        return boardingStaff;
+    }
+
+    public List<RunwaySpec> getRunwaySpecs() {
+        return runways;
+    }
+
+    public long getChangeoverMillis() {
+        return changeoverMillis;
+    }
+
+    public RunwayPolicy getSequencing() {
+        return sequencing;
+    }
+
+    public int getRunwayBatch() {
+        return runwayBatch;
+    }
+
+    public long getTakeoffMaxWaitMillis() {
+        return takeoffMaxWaitMillis;
+    }
+
+    // Most normal planes allowed to hold at once; further arrivals are turned away. 0 is no limit.
+    public int getHoldingLimit() {
+        return holdingLimit;
+    }
+
+    // How long a normal plane can wait, holding and then queued for the runway, before it
+    // diverts. Unscaled; 0 is no limit.
+    public long getHoldingFuelMillis() {
+        return holdingFuelMillis;
+    }
+
+    public GatePolicy getGatePolicy() {
+        return gatePolicy;
+    }
+
+    // Unscaled extra taxi time for each stand further out from the runway.
+    public long getStandTaxiMillis() {
+        return standTaxiMillis;
+    }
+
+    // Taxi time from the runway to the given stand, scaled.
+    public long taxiMillis(int stand) {
+        return serviceTimes.taxi() + serviceTimes.scale(stand * standTaxiMillis);
+    }
+
+    public int getSeats() {
+        return seats;
+    }
+
+    public int getBoardingGroups() {
+        return boardingGroups;
+    }
+
+    // Each passenger checks between 0 and maxBags bags.
+    public int getMaxBags() {
+        return maxBags;
+    }
+
+    // Share of arriving passengers who fly on from here rather than ending their journey.
+    public int getConnectPercent() {
+        return connectPercent;
+    }
+
+    public int getDestinations() {
+        return destinations;
+    }
+
+    // Unscaled; a connecting passenger can board from minConnectMillis after leaving the
+    // inbound plane and misses the connection once maxConnectMillis have passed.
+    public long getMinConnectMillis() {
+        return minConnectMillis;
+    }
+
+    public long getMaxConnectMillis() {
+        return maxConnectMillis;
+    }
+
+    // Aircraft types without a plan of their own use the default one.
+    public TurnaroundPlan getTurnaroundPlan(String aircraftType) {
+        TurnaroundPlan plan = turnaroundPlans.get(aircraftType);
+        return plan != null ? plan : turnaroundPlans.get(DEFAULT_AIRCRAFT_TYPE);
+    }
+
+    public ServiceTimes getServiceTimes() {
+        return serviceTimes;
+    }
+
+    public ExecutionMode getExecutionMode() {
+        return executionMode;
+    }
+
+    public EventLog.Level getLogLevel() {
+        return logLevel;
+    }
+
+    public boolean isConsoleEnabled() {
+        return consoleEnabled;
+    }
+
+    // Null when no binary trace is written.
+    public Path getTracePath() {
+        return tracePath;
+    }
+
+    // Registers an AirportMonitor MBean for each threaded Airport.
+    public boolean isJmxEnabled() {
+        return jmxEnabled;
+    }
+
+    // Seeds every plane's random stream; recorded in the trace so a run can be replayed.
+    public long getSeed() {
+        return seed;
+    }
+
+    public Runway[] createRunways() {
+        Runway[] result = new Runway[runways.size()];
+        for (int i = 0; i < result.length; i++) {
+            RunwaySpec spec = runways.get(i);
+            long landing = spec.landingMillis() >= 0 ? serviceTimes.scale(spec.landingMillis()) : serviceTimes.landing();
+            long takeoff = spec.takeoffMillis() >= 0 ? serviceTimes.scale(spec.takeoffMillis()) : serviceTimes.takeoff();
+            result[i] = new Runway(i, spec.mode(), landing, takeoff, serviceTimes.scale(changeoverMillis));
+        }
+        return result;
+    }
+
+    public RunwaySequencer createRunwaySequencer(Runway[] runways) {
+        return new RunwaySequencer(runways, sequencing, runwayBatch, serviceTimes.scale(takeoffMaxWaitMillis));
+    }
+
+    public static final class Builder {
+        private int gates = 3;
+        private int capacity = 3;
+        private int refuelTrucks;
+        private int cleaningCrews;
+        private int boardingStaff;
+        private final List<RunwaySpec> runways = new ArrayList<>();
+        private long changeoverMillis;
+        private RunwayPolicy sequencing = RunwaySequencer.Policy.PRIORITY;
+        private int runwayBatch = 4;
+        private long takeoffMaxWaitMillis = 30_000;
+        private int holdingLimit;
+        private long holdingFuelMillis;
+        private GatePolicy gatePolicy = GateAllocator.Policy.PRIORITY;
+        private long standTaxiMillis;
+        private int seats = 60;
+        private int boardingGroups = 4;
+        private int maxBags = 2;
+        private int connectPercent;
+        private int destinations = 4;
+        private long minConnectMillis = 2_000;
+        private long maxConnectMillis = 60_000;
+        private final Map<String, TurnaroundPlan> turnaroundPlans =
+                new HashMap<>(Map.of(DEFAULT_AIRCRAFT_TYPE, TurnaroundPlan.STANDARD));
+        private ServiceTimes serviceTimes = ServiceTimes.DEFAULT;
+        private ExecutionMode executionMode = ExecutionMode.fromSystemProperty();
+        private EventLog.Level logLevel = EventLog.Level.fromSystemProperty();
+        private boolean consoleEnabled = Boolean.parseBoolean(System.getProperty(CONSOLE_PROPERTY, "true"));
+        private Path tracePath = System.getProperty(TRACE_PROPERTY) == null
+                ? null
+                : Path.of(System.getProperty(TRACE_PROPERTY));
+        private boolean jmxEnabled = Boolean.getBoolean(AirportMonitor.JMX_PROPERTY);
+        private long seed = Long.getLong(LoadGenerator.SEED_PROPERTY, System.nanoTime());
+
+        private Builder() {
+        }
+
+        public Builder gates(int gates) {
+            this.gates = gates;
+            return this;
+        }
+
+        public Builder capacity(int capacity) {
+            this.capacity = capacity;
+            return this;
+        }
+
+        // Ground resources default to one of each per gate.
+        public Builder groundResources(int refuelTrucks, int cleaningCrews, int boardingStaff) {
+            this.refuelTrucks = refuelTrucks;
+            this.cleaningCrews = cleaningCrews;
+            this.boardingStaff = boardingStaff;
+            return this;
+        }
+
+        public Builder runway(RunwayMode mode) {
+            return runway(mode, -1, -1);
+        }
+
+        public Builder runway(RunwayMode mode, long landingMillis, long takeoffMillis) {
+            runways.add(new RunwaySpec(mode, landingMillis, takeoffMillis));
+            return this;
+        }
+
+        // Extra runway time when a movement goes the opposite way to the one before it.
+        public Builder changeoverMillis(long changeoverMillis) {
+            this.changeoverMillis = changeoverMillis;
+            return this;
+        }
+
+        public Builder sequencing(RunwayPolicy sequencing) {
+            this.sequencing = sequencing;
+            return this;
+        }
+
+        public Builder sequencing(RunwayPolicy sequencing, int runwayBatch, long takeoffMaxWaitMillis) {
+            this.sequencing = sequencing;
+            this.runwayBatch = runwayBatch;
+            this.takeoffMaxWaitMillis = takeoffMaxWaitMillis;
+            return this;
+        }
+
+        public Builder gatePolicy(GatePolicy gatePolicy) {
+            this.gatePolicy = gatePolicy;
+            return this;
+        }
+
+        // Stands further out cost standTaxiMillis more taxi each, so the stand choice matters.
+        public Builder gatePolicy(GatePolicy gatePolicy, long standTaxiMillis) {
+            this.gatePolicy = gatePolicy;
+            this.standTaxiMillis = standTaxiMillis;
+            return this;
+        }
+
+        // Passengers past the last seat are bumped, latest boarding group first.
+        public Builder cabin(int seats, int boardingGroups) {
+            this.seats = seats;
+            this.boardingGroups = boardingGroups;
+            return this;
+        }
+
+        public Builder baggage(int maxBags) {
+            this.maxBags = maxBags;
+            return this;
+        }
+
+        // Every departing flight serves one of the destinations; 0 connectPercent turns transfers off.
+        public Builder connections(int connectPercent, int destinations, long minConnectMillis,
+                                   long maxConnectMillis) {
+            this.connectPercent = connectPercent;
+            this.destinations = destinations;
+            this.minConnectMillis = minConnectMillis;
+            this.maxConnectMillis = maxConnectMillis;
+            return this;
+        }
+
+        // Emergencies are never turned away or diverted.
+        public Builder holding(int holdingLimit, long holdingFuelMillis) {
+            this.holdingLimit = holdingLimit;
+            this.holdingFuelMillis = holdingFuelMillis;
+            return this;
+        }
+
+        public Builder turnaround(TurnaroundPlan plan) {
+            return turnaround(DEFAULT_AIRCRAFT_TYPE, plan);
+        }
+
+        public Builder turnaround(String aircraftType, TurnaroundPlan plan) {
+            turnaroundPlans.put(aircraftType, plan);
+            return this;
+        }
+
+        public Builder serviceTimes(ServiceTimes serviceTimes) {
+            this.serviceTimes = serviceTimes;
+            return this;
+        }
+
+        public Builder executionMode(ExecutionMode executionMode) {
+            this.executionMode = executionMode;
+            return this;
+        }
+
+        public Builder logLevel(EventLog.Level logLevel) {
+            this.logLevel = logLevel;
+            return this;
+        }
+
+        public Builder console(boolean consoleEnabled) {
+            this.consoleEnabled = consoleEnabled;
+            return this;
+        }
+
+        public Builder trace(Path tracePath) {
+            this.tracePath = tracePath;
+            return this;
+        }
+
+        public Builder jmx(boolean jmxEnabled) {
+            this.jmxEnabled = jmxEnabled;
+            return this;
+        }
+
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public AirportConfig build() {
+            if (gates <= 0 || capacity <= 0) {
+                throw new IllegalArgumentException("Gates and capacity must be positive");
+            }
+            if (holdingLimit < 0 || holdingFuelMillis < 0) {
+                throw new IllegalArgumentException("Holding limits cannot be negative");
+            }
+            if (standTaxiMillis < 0) {
+                throw new IllegalArgumentException("Stand taxi time cannot be negative");
+            }
+            // Planes draw up to 49 arriving and 50 departing passengers of their own, and
+            // FlightStore keeps passenger counts in short columns.
+            if (seats < 50 || seats > 1000 || boardingGroups < 1 || boardingGroups > 100 || maxBags < 0 || maxBags > 100) {
+                throw new IllegalArgumentException("Need 50 to 1000 seats, 1 to 100 boarding groups and 0 to 100 bags");
+            }
+            if (connectPercent < 0 || connectPercent > 100 || destinations < 1 || destinations > 100
+                    || minConnectMillis < 0 || maxConnectMillis < minConnectMillis) {
+                throw new IllegalArgumentException("Connections need a percentage, 1 to 100 destinations and"
+                        + " minConnectMillis <= maxConnectMillis");
+            }
+            return new AirportConfig(this);
+        }
+    }
+}
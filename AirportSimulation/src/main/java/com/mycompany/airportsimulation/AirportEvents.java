@@ -0,0 +1,110 @@
+package com.mycompany.airportsimulation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+// Flight Recorder events for the threaded engine. Record with
+// -XX:StartFlightRecording:filename=airport.jfr and read with "jfr print --categories Airport".
+// Each call site creates the event and fills it only if shouldCommit(), so a JVM that is not
+// recording pays for little more than the allocation, which escape analysis usually removes.
+final class AirportEvents {
+    private static final String CATEGORY = "Airport";
+
+    private AirportEvents() {
+    }
+
+    @Name("com.mycompany.airportsimulation.RunwayGrant")
+    @Label("Runway Grant")
+    @Description("ATC cleared a landing or takeoff, with the queues left behind")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static final class RunwayGrant extends Event {
+        @Label("Plane")
+        String plane;
+
+        @Label("Runway")
+        int runway;
+
+        @Label("Movement")
+        String movement;
+
+        @Label("Runway Time")
+        @Timespan(Timespan.MILLISECONDS)
+        long runwayMillis;
+
+        @Label("Emergency Landing Queue")
+        int emergencyQueue;
+
+        @Label("Landing Queue")
+        int landingQueue;
+
+        @Label("Takeoff Queue")
+        int takeoffQueue;
+    }
+
+    @Name("com.mycompany.airportsimulation.CapacityAcquire")
+    @Label("Capacity Acquire")
+    @Description("A plane asking for ground capacity, through to admission")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static final class CapacityAcquire extends Event {
+        @Label("Plane")
+        String plane;
+
+        @Label("Emergency")
+        boolean emergency;
+
+        @Label("Held")
+        @Description("The airport was full or others were already holding")
+        boolean held;
+
+        @Label("Outcome")
+        String outcome;
+    }
+
+    @Name("com.mycompany.airportsimulation.GateAssign")
+    @Label("Gate Assign")
+    @Description("A landed plane asking for a gate, through to assignment")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static final class GateAssign extends Event {
+        @Label("Plane")
+        String plane;
+
+        @Label("Gate")
+        int gate;
+
+        @Label("Emergency")
+        boolean emergency;
+    }
+
+    @Name("com.mycompany.airportsimulation.GateRelease")
+    @Label("Gate Release")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static final class GateRelease extends Event {
+        @Label("Plane")
+        String plane;
+
+        @Label("Gate")
+        int gate;
+    }
+
+    @Name("com.mycompany.airportsimulation.TurnaroundPhase")
+    @Label("Turnaround Phase")
+    @Description("One stage of a turnaround plan, including any wait for its crew")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static final class TurnaroundPhase extends Event {
+        @Label("Plane")
+        String plane;
+
+        @Label("Phase")
+        String phase;
+    }
+}
@@ -0,0 +1,52 @@
+package com.mycompany.airportsimulation;
+
+// Live view of a threaded Airport over JMX (jconsole, VisualVM, jmc). Enabled with
+// -Dairport.jmx=true or jmx=true in the config; see AirportMonitor.
+public interface AirportMXBean {
+
+    int getCapacity();
+
+    int getGroundPlanes();
+
+    int getAvailableCapacity();
+
+    int getHoldingPlanes();
+
+    int getEmergencyLandingQueue();
+
+    int getLandingQueue();
+
+    int getTakeoffQueue();
+
+    int getRunwayCount();
+
+    int getBusyRunways();
+
+    double getRunwayUtilisation();
+
+    int getGateCount();
+
+    int getGatesInUse();
+
+    double getGateUtilisation();
+
+    long getFlightsCompleted();
+
+    long getFlightsDiverted();
+
+    long getFlightsRejected();
+
+    long getLandingsLastMinute();
+
+    long getTakeoffsLastMinute();
+
+    double getMovementsPerHour();
+
+    long getAverageGrantLatencyMicros();
+
+    long getDispatcherWakeups();
+
+    String getRunwaySequencing();
+
+    String getGatePolicy();
+}
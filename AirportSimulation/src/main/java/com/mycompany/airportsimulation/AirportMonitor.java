@@ -0,0 +1,178 @@
+package com.mycompany.airportsimulation;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+// Reads the live state of one Airport for JMX. Every airport has one so ATC can feed the
+// movement rates; it is only registered when JMX is enabled, as
+// com.mycompany.airportsimulation:type=Airport,name=airport-<n>.
+public class AirportMonitor implements AirportMXBean {
+    public static final String JMX_PROPERTY = "airport.jmx";
+    private static final AtomicInteger INSTANCES = new AtomicInteger();
+
+    private final Airport airport;
+    private final MovingRate landings = new MovingRate();
+    private final MovingRate takeoffs = new MovingRate();
+    private ObjectName name;
+
+    AirportMonitor(Airport airport) {
+        this.airport = airport;
+    }
+
+    void recordMovement(boolean landing) {
+        (landing ? landings : takeoffs).record(System.currentTimeMillis());
+    }
+
+    public synchronized void register() {
+        if (name != null) {
+            return;
+        }
+        try {
+            ObjectName objectName = new ObjectName("com.mycompany.airportsimulation:type=Airport,name=airport-"
+                    + INSTANCES.incrementAndGet());
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+            name = objectName;
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not register the airport MBean", e);
+        }
+    }
+
+    public synchronized void unregister() {
+        if (name == null) {
+            return;
+        }
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.unregisterMBean(name);
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not unregister " + name, e);
+        } finally {
+            name = null;
+        }
+    }
+
+    // Null while not registered.
+    public synchronized ObjectName getObjectName() {
+        return name;
+    }
+
+    @Override
+    public int getCapacity() {
+        return airport.getCapacity();
+    }
+
+    @Override
+    public int getGroundPlanes() {
+        return airport.getCurrentGroundPlanes();
+    }
+
+    @Override
+    public int getAvailableCapacity() {
+        return airport.getAdmission().availableSlots();
+    }
+
+    @Override
+    public int getHoldingPlanes() {
+        return airport.getAdmission().getHoldingCount();
+    }
+
+    @Override
+    public int getEmergencyLandingQueue() {
+        return airport.getATC().getEmergencyLandingQueueDepth();
+    }
+
+    @Override
+    public int getLandingQueue() {
+        return airport.getATC().getLandingQueueDepth();
+    }
+
+    @Override
+    public int getTakeoffQueue() {
+        return airport.getATC().getTakeoffQueueDepth();
+    }
+
+    @Override
+    public int getRunwayCount() {
+        return airport.getRunways().length;
+    }
+
+    @Override
+    public int getBusyRunways() {
+        return airport.getATC().getBusyRunways();
+    }
+
+    @Override
+    public double getRunwayUtilisation() {
+        return (double) getBusyRunways() / getRunwayCount();
+    }
+
+    @Override
+    public int getGateCount() {
+        return airport.getGateAllocator().getTotalGates();
+    }
+
+    @Override
+    public int getGatesInUse() {
+        GateAllocator gates = airport.getGateAllocator();
+        return gates.getTotalGates() - gates.getFreeGates();
+    }
+
+    @Override
+    public double getGateUtilisation() {
+        return (double) getGatesInUse() / getGateCount();
+    }
+
+    @Override
+    public long getFlightsCompleted() {
+        return airport.getMetrics().getFlightsCompleted();
+    }
+
+    @Override
+    public long getFlightsDiverted() {
+        return airport.getMetrics().getFlightsDiverted();
+    }
+
+    @Override
+    public long getFlightsRejected() {
+        return airport.getMetrics().getFlightsRejected();
+    }
+
+    @Override
+    public long getLandingsLastMinute() {
+        return landings.lastMinute(System.currentTimeMillis());
+    }
+
+    @Override
+    public long getTakeoffsLastMinute() {
+        return takeoffs.lastMinute(System.currentTimeMillis());
+    }
+
+    // Runway movements over the last minute, scaled to an hour.
+    @Override
+    public double getMovementsPerHour() {
+        return (getLandingsLastMinute() + getTakeoffsLastMinute()) * 60.0;
+    }
+
+    @Override
+    public long getAverageGrantLatencyMicros() {
+        return airport.getATC().getAverageGrantLatencyNanos() / 1000;
+    }
+
+    @Override
+    public long getDispatcherWakeups() {
+        return airport.getATC().getDispatcherWakeups();
+    }
+
+    @Override
+    public String getRunwaySequencing() {
+        return airport.getConfig().getSequencing().toString();
+    }
+
+    @Override
+    public String getGatePolicy() {
+        return airport.getConfig().getGatePolicy().toString();
+    }
+}
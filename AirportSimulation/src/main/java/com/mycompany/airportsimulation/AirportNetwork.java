@@ -0,0 +1,191 @@
+package com.mycompany.airportsimulation;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Airports connected by flights: every takeoff becomes an arrival at another airport after
+// a flight time. Airports are split into partitions, each with its own event calendar and
+// thread. No flight is shorter than the minimum flight time, so partitions can run a window
+// of that length without hearing from each other; between windows they meet at a barrier
+// and exchange the flights that crossed over through bounded queues.
+public class AirportNetwork {
+    private static final int INBOX_CAPACITY = 1024;
+    private static final Comparator<Transfer> TRANSFER_ORDER = Comparator.comparingLong(Transfer::atMillis)
+            .thenComparingInt(Transfer::airport)
+            .thenComparing(Transfer::id);
+
+    private record Transfer(long atMillis, int airport, String id, boolean emergency) {
+    }
+
+    private final DiscreteEventAirport[] airports;
+    private final Random[] routes;
+    private final int[] partitionOf;
+    private final Partition[] partitions;
+    private final long minFlightMillis;
+    private final long maxFlightMillis;
+    private final AtomicInteger sending = new AtomicInteger();
+
+    public AirportNetwork(int airportCount, int partitionCount, AirportConfig config,
+                          long minFlightMillis, long maxFlightMillis, long seed) {
+        if (airportCount < 2 || partitionCount < 1 || minFlightMillis <= 0 || maxFlightMillis < minFlightMillis) {
+            throw new IllegalArgumentException("Need two airports, one partition and a positive flight time");
+        }
+        this.minFlightMillis = minFlightMillis;
+        this.maxFlightMillis = maxFlightMillis;
+        this.airports = new DiscreteEventAirport[airportCount];
+        this.routes = new Random[airportCount];
+        this.partitionOf = new int[airportCount];
+        this.partitions = new Partition[Math.min(partitionCount, airportCount)];
+        for (int p = 0; p < partitions.length; p++) {
+            partitions[p] = new Partition(p);
+        }
+        // Routing randomness belongs to the airport, so results do not depend on the partitioning.
+        for (int i = 0; i < airportCount; i++) {
+            Partition partition = partitions[i % partitions.length];
+            int origin = i;
+            partitionOf[i] = partition.index;
+            routes[i] = new Random(seed * 31 + i);
+            airports[i] = new DiscreteEventAirport(config, partition.calendar, seed + i, false);
+            airports[i].setDepartureListener(flight -> partition.depart(origin, flight));
+        }
+    }
+
+    // Each airport starts with planes arriving at random times within the first minimum flight time.
+    public void seedFlights(int planesPerAirport, double emergencyPercent) {
+        for (int i = 0; i < airports.length; i++) {
+            for (int n = 1; n <= planesPerAirport; n++) {
+                long at = (long) (routes[i].nextDouble() * minFlightMillis);
+                boolean emergency = routes[i].nextDouble() * 100 < emergencyPercent;
+                airports[i].scheduleArrival(i + "-" + n, emergency, at);
+            }
+        }
+    }
+
+    public void run(long endMillis) throws InterruptedException {
+        CyclicBarrier barrier = new CyclicBarrier(partitions.length, () -> sending.set(partitions.length));
+        Thread[] threads = new Thread[partitions.length];
+        for (int p = 0; p < partitions.length; p++) {
+            Partition partition = partitions[p];
+            threads[p] = new Thread(() -> partition.run(endMillis, barrier), "partition-" + p);
+            threads[p].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+
+    public DiscreteEventAirport[] getAirports() {
+        return airports;
+    }
+
+    public int getPartitionCount() {
+        return partitions.length;
+    }
+
+    public long getFlightsCompleted() {
+        long total = 0;
+        for (DiscreteEventAirport airport : airports) {
+            total += airport.getMetrics().getFlightsCompleted();
+        }
+        return total;
+    }
+
+    public long getProcessedEvents() {
+        long total = 0;
+        for (Partition partition : partitions) {
+            total += partition.calendar.getProcessedEvents();
+        }
+        return total;
+    }
+
+    public long getTransfers() {
+        long total = 0;
+        for (Partition partition : partitions) {
+            total += partition.transfers;
+        }
+        return total;
+    }
+
+    private class Partition {
+        private final int index;
+        private final EventCalendar calendar = new EventCalendar();
+        private final ArrayBlockingQueue<Transfer> inbox = new ArrayBlockingQueue<>(INBOX_CAPACITY);
+        private final List<List<Transfer>> outboxes = new ArrayList<>();
+        private final List<Transfer> received = new ArrayList<>();
+        private long transfers;
+
+        Partition(int index) {
+            this.index = index;
+            for (int p = 0; p < partitions.length; p++) {
+                outboxes.add(new ArrayList<>());
+            }
+        }
+
+        void depart(int origin, int flight) {
+            Random route = routes[origin];
+            int destination = route.nextInt(airports.length - 1);
+            if (destination >= origin) {
+                destination++;
+            }
+            long flightMillis = minFlightMillis + (long) (route.nextDouble() * (maxFlightMillis - minFlightMillis));
+            Transfer transfer = new Transfer(calendar.now() + flightMillis, destination,
+                    airports[origin].getFlights().getId(flight), airports[origin].getFlights().isEmergency(flight));
+            outboxes.get(partitionOf[destination]).add(transfer);
+            transfers++;
+        }
+
+        // Window [start, start + minFlight) can only receive flights that departed before start.
+        // Nobody sends again until every partition has reached the next window's barrier,
+        // so deliver() only ever sees this window's flights.
+        void run(long endMillis, CyclicBarrier barrier) {
+            try {
+                for (long start = 0; start < endMillis; start += minFlightMillis) {
+                    calendar.runUntil(Math.min(start + minFlightMillis, endMillis) - 1);
+                    barrier.await();
+                    send();
+                    deliver();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (BrokenBarrierException e) {
+                throw new IllegalStateException("Partition " + index + " lost its peers", e);
+            }
+        }
+
+        // Every partition keeps draining its own inbox until the last one has finished sending,
+        // so a sender facing a full inbox always has someone emptying it.
+        private void send() {
+            for (int p = 0; p < outboxes.size(); p++) {
+                ArrayBlockingQueue<Transfer> target = partitions[p].inbox;
+                for (Transfer transfer : outboxes.get(p)) {
+                    while (!target.offer(transfer)) {
+                        inbox.drainTo(received);
+                        Thread.yield();
+                    }
+                }
+                outboxes.get(p).clear();
+            }
+            sending.decrementAndGet();
+            while (sending.get() > 0) {
+                inbox.drainTo(received);
+                Thread.yield();
+            }
+        }
+
+        // Sorted so ties at the same instant land in the same order however airports are partitioned.
+        private void deliver() {
+            inbox.drainTo(received);
+            received.sort(TRANSFER_ORDER);
+            for (Transfer transfer : received) {
+                airports[transfer.airport()].scheduleArrival(transfer.id(), transfer.emergency(), transfer.atMillis());
+            }
+            received.clear();
+        }
+    }
+}
@@ -1,21 +1,26 @@
 // AirportSimulation.java
 package com.mycompany.airportsimulation;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
 
 public class AirportSimulation {
-    private static final AtomicInteger totalPlanes = new AtomicInteger(0);
-    private static final AtomicInteger totalPassengers = new AtomicInteger(0);
-    
-    public static void main(String[] args) throws InterruptedException {
-        Airport airport = new Airport();
+    public static final String ENGINE_PROPERTY = "airport.engine";
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        AirportConfig config = AirportConfig.fromSystemProperty();
+        if ("discrete".equalsIgnoreCase(System.getProperty(ENGINE_PROPERTY, "threads"))) {
+            runDiscreteEvent(config);
+            return;
+        }
+        Airport airport = new Airport(config);
+        EventLog log = airport.getEventLog();
         List<Airplane> planes = new ArrayList<>();
 
-        System.out.println("=== Airport Simulation Start - Emergency Priority Scenario ===");
-        System.out.println("Airport Configuration: 3 gates, max 3 planes on ground (including runway)");
-        System.out.println("Scenario: Plane 1 operates and leaves (1 gate free), Planes 2 and 3 occupy 2 gates, Planes 4 and 5 wait, Plane 6 arrives as emergency\n");
+        log.message("=== Airport Simulation Start - Emergency Priority Scenario ===");
+        log.message(describe(config));
+        log.message("Scenario: Plane 1 operates and leaves (1 gate free), Planes 2 and 3 occupy 2 gates, Planes 4 and 5 wait, Plane 6 arrives as emergency\n");
 
         // Create 6 planes - only plane 6 is emergency
         for (int i = 1; i <= 6; i++) {
@@ -25,7 +30,7 @@ public class AirportSimulation {
         }
 
         // Phase 1: Start Planes 1, 2, and 3
-        System.out.println("--- Phase 1: Plane 1 operates, Planes 2 and 3 occupy two gates ---");
+        log.message("--- Phase 1: Plane 1 operates, Planes 2 and 3 occupy two gates ---");
         planes.get(0).start(); // Plane 1
         Thread.sleep(800);
         planes.get(1).start(); // Plane 2
@@ -34,14 +39,14 @@ public class AirportSimulation {
         Thread.sleep(600);
 
         // Phase 2: Planes 4 and 5 request landing and wait
-        System.out.println("\n--- Phase 2: Planes 4 and 5 request landing and wait ---");
+        log.message("\n--- Phase 2: Planes 4 and 5 request landing and wait ---");
         planes.get(3).start(); // Plane 4
         Thread.sleep(500);
         planes.get(4).start(); // Plane 5
         Thread.sleep(200);
 
         // Phase 3: Emergency Plane 6 arrives
-        System.out.println("\n--- Phase 3: EMERGENCY PLANE 6 arrives and gets landing priority ---");
+        log.message("\n--- Phase 3: EMERGENCY PLANE 6 arrives and gets landing priority ---");
         planes.get(5).start(); // Plane 6 - EMERGENCY
 
         // Wait for all planes to complete with timeout
@@ -50,25 +55,61 @@ public class AirportSimulation {
                 p.join(10000); // Wait up to 10 seconds
                 if (p.isAlive()) {
                     System.err.println("Plane-" + p.getName() + " did not complete within timeout.");
-                } else {
-                    recordPlaneStats(p);
                 }
             } catch (InterruptedException e) {
                 System.err.println("Main thread interrupted while waiting for Plane-" + p.getName());
             }
         }
 
-        // Print Statistics
-        System.out.println("\n=== Final Airport Simulation Statistics ===");
-        System.out.println("Total planes served: " + totalPlanes.get());
-        System.out.println("Total passengers handled (landed + boarded): " + totalPassengers.get());
-
         List<Long> waitTimes = new ArrayList<>();
         for (Airplane p : planes) {
-            if (!p.isAlive()) {
+            if (!p.isAlive() && !p.isDiverted()) {
                 waitTimes.add(p.getWaitingTime());
             }
         }
+        airport.close();
+        printStatistics(airport.getMetrics(), waitTimes);
+    }
+
+    // Same scenario as main, replayed on simulated time: arrivals at 0, 800, 5800, 6400, 6900 and 7100 ms.
+    private static void runDiscreteEvent(AirportConfig config) {
+        DiscreteEventAirport airport = new DiscreteEventAirport(config, config.getSeed(), true);
+        EventCalendar calendar = airport.getCalendar();
+        EventLog log = airport.getEventLog();
+
+        log.message("=== Airport Simulation Start - Emergency Priority Scenario ===");
+        log.message(describe(config));
+        log.message("Scenario: Plane 1 operates and leaves (1 gate free), Planes 2 and 3 occupy 2 gates, Planes 4 and 5 wait, Plane 6 arrives as emergency\n");
+
+        log.message("--- Phase 1: Plane 1 operates, Planes 2 and 3 occupy two gates ---");
+        airport.scheduleArrival("1", false, 0);
+        airport.scheduleArrival("2", false, 800);
+        airport.scheduleArrival("3", false, 5800);
+        calendar.scheduleAt(6400, () -> log.message("\n--- Phase 2: Planes 4 and 5 request landing and wait ---"));
+        airport.scheduleArrival("4", false, 6400);
+        airport.scheduleArrival("5", false, 6900);
+        calendar.scheduleAt(7100, () -> log.message("\n--- Phase 3: EMERGENCY PLANE 6 arrives and gets landing priority ---"));
+        airport.scheduleArrival("6", true, 7100);
+        airport.run();
+
+        List<Long> waitTimes = airport.getFlights().getCompletedWaitingTimes();
+        log.close();
+        printStatistics(airport.getMetrics(), waitTimes);
+    }
+
+    static String describe(AirportConfig config) {
+        return "Airport Configuration: " + config.getGates() + " gates, max " + config.getCapacity()
+                + " planes on ground (including runway)";
+    }
+
+    static void printStatistics(FlightMetrics metrics, List<Long> waitTimes) {
+        System.out.println("\n=== Final Airport Simulation Statistics ===");
+        System.out.println("Total planes served: " + metrics.getFlightsCompleted());
+        System.out.println("Total passengers handled (landed + boarded): " + metrics.getPassengersHandled());
+        if (metrics.getFlightsDiverted() + metrics.getFlightsRejected() > 0) {
+            System.out.println("Diverted: " + metrics.getFlightsDiverted() + " after holding, "
+                    + metrics.getFlightsRejected() + " turned away with the holding stack full");
+        }
 
         long totalWait = 0;
         long minWait = Long.MAX_VALUE;
@@ -86,11 +127,7 @@ public class AirportSimulation {
         System.out.println("Average wait time before landing: " + avgWait + " ms");
         System.out.println("Minimum wait time: " + minWait + " ms");
         System.out.println("Maximum wait time: " + maxWait + " ms");
+        metrics.printReport(System.out);
         System.out.println("=== END ===");
     }
-
-    public static void recordPlaneStats(Airplane plane) {
-        totalPlanes.incrementAndGet();
-        totalPassengers.addAndGet(plane.getPassengerCount() + plane.getDepartingPassengerCount());
-    }
 }
@@ -0,0 +1,99 @@
+package com.mycompany.airportsimulation;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+// Writes events as fixed-size binary records into a memory-mapped file. Subjects are
+// interned: the first time a name is seen it is written once as a subject record and
+// later events refer to it by number, so recording an event allocates nothing.
+//
+// Layout, little-endian:
+//   header   int magic "ATRC", int version, long seed, long reserved           (24 bytes)
+//   subject  byte 2, int id, short length, UTF-8 bytes
+//   event    byte 1, byte type ordinal, int subject id, long timestamp, long a, long b  (30 bytes)
+// A zero tag marks the end, so a trace cut short by a crash still reads up to its last record.
+public class BinaryTraceSink implements EventSink {
+    static final int MAGIC = 0x43525441;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 24;
+    static final byte EVENT = 1;
+    static final byte SUBJECT = 2;
+    static final int EVENT_BYTES = 30;
+    private static final long CHUNK_BYTES = 16L << 20;
+
+    private final FileChannel channel;
+    private final Map<String, Integer> subjectIds = new HashMap<>();
+    private MappedByteBuffer buffer;
+    private long bufferStart;
+    private long events;
+
+    public BinaryTraceSink(Path file, long seed) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        map(0);
+        buffer.putInt(MAGIC).putInt(VERSION).putLong(seed).putLong(0);
+    }
+
+    @Override
+    public void accept(long timestamp, EventType type, String subject, long a, long b) {
+        Integer id = subjectIds.get(subject);
+        if (id == null) {
+            id = defineSubject(subject);
+        }
+        ensureRoom(EVENT_BYTES);
+        buffer.put(EVENT).put((byte) type.ordinal()).putInt(id).putLong(timestamp).putLong(a).putLong(b);
+        events++;
+    }
+
+    public long getEventCount() {
+        return events;
+    }
+
+    // Pages reach the file through the OS; only close forces them and trims the unused tail.
+    @Override
+    public void close() {
+        try {
+            long end = bufferStart + buffer.position();
+            buffer.force();
+            buffer = null;
+            channel.truncate(end);
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Integer defineSubject(String subject) {
+        byte[] bytes = (subject == null ? "" : subject).getBytes(StandardCharsets.UTF_8);
+        int length = Math.min(bytes.length, Short.MAX_VALUE);
+        Integer id = subjectIds.size();
+        subjectIds.put(subject, id);
+        ensureRoom(7 + length);
+        buffer.put(SUBJECT).putInt(id).putShort((short) length).put(bytes, 0, length);
+        return id;
+    }
+
+    private void ensureRoom(int bytes) {
+        if (buffer.remaining() < bytes + 1) {
+            map(bufferStart + buffer.position());
+        }
+    }
+
+    private void map(long position) {
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, position, CHUNK_BYTES);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            bufferStart = position;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.mycompany.airportsimulation;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Airport capacity slots, emergencies first and then first come first served. A release
+// hands its slot straight to the next waiter and signals only that waiter's own condition,
+// so a release costs the same with ten holding planes or ten thousand.
+public class CapacityAdmission {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Queue<Waiter> emergencyQueue = new ArrayDeque<>();
+    private final Queue<Waiter> normalQueue = new ArrayDeque<>();
+    private final int holdingLimit;
+    private int available;
+    private long handoffs;
+    private long wakeups;
+
+    private final class Waiter {
+        final Condition admitted = lock.newCondition();
+        boolean granted;
+    }
+
+    public enum Outcome {
+        ADMITTED,
+        // The holding stack was full, so the plane never joined it.
+        REJECTED,
+        // The plane ran out of holding time before a slot came free.
+        TIMED_OUT
+    }
+
+    public CapacityAdmission(int capacity) {
+        this(capacity, 0);
+    }
+
+    // holdingLimit caps how many normal planes may hold at once; 0 means no cap.
+    public CapacityAdmission(int capacity, int holdingLimit) {
+        if (capacity <= 0 || holdingLimit < 0) {
+            throw new IllegalArgumentException("Capacity must be positive and the holding limit non-negative");
+        }
+        this.available = capacity;
+        this.holdingLimit = holdingLimit;
+    }
+
+    // onHold runs once, before waiting, if the airport is full or others are already holding.
+    // A timeout of zero or less waits for as long as it takes. Emergencies are never turned
+    // away or timed out; callers pass no timeout for them.
+    public Outcome acquire(boolean emergency, long timeoutNanos, Runnable onHold) throws InterruptedException {
+        lock.lock();
+        try {
+            if (available > 0 && emergencyQueue.isEmpty() && (emergency || normalQueue.isEmpty())) {
+                available--;
+                return Outcome.ADMITTED;
+            }
+            if (!emergency && holdingLimit > 0 && normalQueue.size() >= holdingLimit) {
+                return Outcome.REJECTED;
+            }
+            Waiter waiter = new Waiter();
+            Queue<Waiter> queue = emergency ? emergencyQueue : normalQueue;
+            queue.add(waiter);
+            onHold.run();
+            try {
+                long remaining = timeoutNanos;
+                while (!waiter.granted) {
+                    if (timeoutNanos <= 0) {
+                        waiter.admitted.await();
+                    } else if (remaining > 0) {
+                        remaining = waiter.admitted.awaitNanos(remaining);
+                    } else {
+                        queue.remove(waiter);
+                        return Outcome.TIMED_OUT;
+                    }
+                    wakeups++;
+                }
+            } catch (InterruptedException e) {
+                // A slot handed over just before the interrupt is passed on, not lost.
+                if (waiter.granted) {
+                    handOff();
+                } else {
+                    queue.remove(waiter);
+                }
+                throw e;
+            }
+            return Outcome.ADMITTED;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void release() {
+        lock.lock();
+        try {
+            handOff();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void handOff() {
+        Waiter next = emergencyQueue.poll();
+        if (next == null) {
+            next = normalQueue.poll();
+        }
+        if (next == null) {
+            available++;
+            return;
+        }
+        next.granted = true;
+        handoffs++;
+        next.admitted.signal();
+    }
+
+    public int availableSlots() {
+        lock.lock();
+        try {
+            return available;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getHoldingCount() {
+        lock.lock();
+        try {
+            return emergencyQueue.size() + normalQueue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getHandoffs() {
+        lock.lock();
+        try {
+            return handoffs;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Times a holding plane woke up: hand-offs, plus any timeouts and spurious wake-ups.
+    public long getWakeups() {
+        lock.lock();
+        try {
+            return wakeups;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
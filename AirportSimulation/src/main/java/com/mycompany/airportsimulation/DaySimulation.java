@@ -0,0 +1,55 @@
+package com.mycompany.airportsimulation;
+
+import java.util.List;
+
+// Usage: DaySimulation [hours] [meanSecondsBetweenArrivals] [emergencyPercent] [seed] [runways]
+// Runs a full schedule on the discrete-event engine; simulated time does not sleep.
+public class DaySimulation {
+
+    public static void main(String[] args) {
+        int hours = args.length > 0 ? Integer.parseInt(args[0]) : 24;
+        double meanGapSeconds = args.length > 1 ? Double.parseDouble(args[1]) : 20;
+        int emergencyPercent = args.length > 2 ? Integer.parseInt(args[2]) : 2;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : 42L;
+        int runwayCount = args.length > 4 ? Integer.parseInt(args[4]) : 1;
+
+        AirportConfig.Builder config = AirportConfig.builder();
+        for (int i = 0; i < runwayCount; i++) {
+            config.runway(RunwayMode.MIXED);
+        }
+        DiscreteEventAirport airport = new DiscreteEventAirport(config.build(), seed, false);
+        List<LoadGenerator.Arrival> arrivals = new LoadGenerator(seed)
+                .poisson(3600 / meanGapSeconds, hours * 3_600_000L, emergencyPercent);
+        for (LoadGenerator.Arrival arrival : arrivals) {
+            airport.scheduleArrival(arrival.id(), arrival.emergency(), arrival.atMillis());
+        }
+        int count = arrivals.size();
+
+        long start = System.nanoTime();
+        airport.run();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        long totalWait = 0;
+        long maxWait = 0;
+        int completed = 0;
+        FlightStore flights = airport.getFlights();
+        for (int flight = 0; flight < flights.size(); flight++) {
+            if (flights.isCompleted(flight)) {
+                completed++;
+                totalWait += flights.getWaitingTime(flight);
+                maxWait = Math.max(maxWait, flights.getWaitingTime(flight));
+            }
+        }
+
+        System.out.println("=== Day Simulation: " + hours + "h, " + count + " arrivals, "
+                + runwayCount + " runway(s), seed " + seed + " ===");
+        System.out.println("Flights completed: " + completed + " (" + 2 * completed + " runway movements)");
+        System.out.println("Simulated time: " + airport.now() / 1000 + " s");
+        System.out.println("Events processed: " + airport.getCalendar().getProcessedEvents());
+        System.out.println("Average wait time before landing: " + (completed == 0 ? 0 : totalWait / completed) + " ms");
+        System.out.println("Maximum wait time: " + maxWait + " ms");
+        System.out.println("Wall-clock time: " + elapsedMillis + " ms");
+        airport.getMetrics().printReport(System.out);
+        System.out.println("=== END ===");
+    }
+}
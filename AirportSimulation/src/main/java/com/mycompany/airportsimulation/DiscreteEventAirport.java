@@ -0,0 +1,422 @@
+package com.mycompany.airportsimulation;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+// Same capacity, runway, gate and ground-service rules as the threaded Airport/ATC/Gate,
+// driven by an event calendar on simulated milliseconds instead of sleeping threads.
+// Flights are int handles into a FlightStore; queues, gates and runways hold handles.
+// Passengers stream on and off at the gates in batches through a PassengerFlow.
+public class DiscreteEventAirport {
+    private final EventCalendar calendar;
+    private final ServiceTimes times;
+    private final int capacity;
+    private static final int NONE = -1;
+
+    private final long seed;
+    private final EventLog log;
+    private final FlightMetrics metrics = new FlightMetrics();
+
+    private int availableCapacity;
+    private final int holdingLimit;
+    private final long holdingFuelMillis;
+    // Diverted flights stay in the queues until they reach the head; these count the live ones.
+    private int emergencyHolding;
+    private int normalHolding;
+    private final IntQueue emergencyCapacityQueue = new IntQueue();
+    private final IntQueue normalCapacityQueue = new IntQueue();
+
+    private final Runway[] runways;
+    private final int[] runwayOccupants;
+    private final IntPredicate runwayBusy;
+    private final RunwaySequencer sequencer;
+    private final IntQueue emergencyLandingQueue = new IntQueue();
+    private final IntQueue normalLandingQueue = new IntQueue();
+    private final IntQueue takeoffQueue = new IntQueue();
+
+    private final int[] gates;
+    private final SimulatedResource refuelTrucks;
+    private final SimulatedResource cleaningCrews;
+    private final SimulatedResource boardingStaff;
+    private final GatePolicy gatePolicy;
+    private final IntPriorityQueue gateQueue = new IntPriorityQueue();
+    private final long[] gateAssignedAt;
+    private long gateBusyMillis;
+    private int groundPlanes;
+
+    private final AirportConfig config;
+    private final FlightStore flights;
+    private final PassengerFlow passengers;
+    private IntConsumer departureListener = flight -> { };
+
+    public DiscreteEventAirport(int totalGates, int capacity, ServiceTimes times, long seed, boolean verbose) {
+        this(AirportConfig.builder().gates(totalGates).capacity(capacity).serviceTimes(times).build(), seed, verbose);
+    }
+
+    public DiscreteEventAirport(AirportConfig config, long seed, boolean verbose) {
+        this(config, new EventCalendar(), seed, verbose);
+    }
+
+    // Airports sharing a calendar advance together on one thread, as in AirportNetwork.
+    public DiscreteEventAirport(AirportConfig config, EventCalendar calendar, long seed, boolean verbose) {
+        this.config = config;
+        this.calendar = calendar;
+        this.gates = new int[config.getGates()];
+        Arrays.fill(gates, NONE);
+        this.gateAssignedAt = new long[gates.length];
+        this.refuelTrucks = new SimulatedResource(config.getRefuelTrucks());
+        this.cleaningCrews = new SimulatedResource(config.getCleaningCrews());
+        this.boardingStaff = new SimulatedResource(config.getBoardingStaff());
+        this.runways = config.createRunways();
+        this.runwayOccupants = new int[runways.length];
+        Arrays.fill(runwayOccupants, NONE);
+        this.runwayBusy = id -> runwayOccupants[id] != NONE;
+        this.sequencer = config.createRunwaySequencer(runways);
+        this.gatePolicy = config.getGatePolicy();
+        this.capacity = config.getCapacity();
+        this.availableCapacity = capacity;
+        this.times = config.getServiceTimes();
+        this.holdingLimit = config.getHoldingLimit();
+        this.holdingFuelMillis = times.scale(config.getHoldingFuelMillis());
+        this.seed = seed;
+        this.flights = new FlightStore(seed);
+        this.passengers = new PassengerFlow(config, flights, metrics);
+        this.log = verbose
+                ? EventLog.open(config, calendar::now, seed)
+                : EventLog.silent();
+    }
+
+    // Called after each takeoff, once the flight has left the airport.
+    public void setDepartureListener(IntConsumer departureListener) {
+        this.departureListener = departureListener;
+    }
+
+    public int scheduleArrival(String id, boolean emergency, long atMillis) {
+        int flight = flights.add(id, emergency);
+        calendar.scheduleAt(atMillis, () -> requestLanding(flight));
+        return flight;
+    }
+
+    public void run() {
+        calendar.run();
+    }
+
+    public void runUntil(long endMillis) {
+        calendar.runUntil(endMillis);
+    }
+
+    public long now() {
+        return calendar.now();
+    }
+
+    public EventCalendar getCalendar() {
+        return calendar;
+    }
+
+    public EventLog getEventLog() {
+        return log;
+    }
+
+    public FlightMetrics getMetrics() {
+        return metrics;
+    }
+
+    public FlightStore getFlights() {
+        return flights;
+    }
+
+    public PassengerFlow getPassengers() {
+        return passengers;
+    }
+
+    // Summed over all gates, from assignment to release.
+    public long getGateBusyMillis() {
+        return gateBusyMillis;
+    }
+
+    public int getGateCount() {
+        return gates.length;
+    }
+
+    public RunwaySequencer getSequencer() {
+        return sequencer;
+    }
+
+    public int getCurrentGroundPlanes() {
+        return groundPlanes;
+    }
+
+    // Same admission rules as CapacityAdmission, including the holding limits.
+    private void requestLanding(int flight) {
+        boolean emergency = flights.isEmergency(flight);
+        log.record(EventType.LANDING_REQUESTED, flights.getName(flight), emergency ? 1 : 0);
+        flights.setWaitingStartTime(flight, calendar.now());
+        flights.setPhaseStartTime(flight, calendar.now());
+        boolean holds = availableCapacity == 0 || emergencyHolding > 0 || (!emergency && normalHolding > 0);
+        if (holds && !emergency && holdingLimit > 0 && normalHolding >= holdingLimit) {
+            divert(flight, true);
+            return;
+        }
+        flights.setState(flight, FlightStore.State.HOLDING);
+        if (emergency) {
+            emergencyCapacityQueue.add(flight);
+            emergencyHolding++;
+        } else {
+            normalCapacityQueue.add(flight);
+            normalHolding++;
+            if (holdingFuelMillis > 0) {
+                calendar.schedule(holdingFuelMillis, () -> runOutOfFuel(flight));
+            }
+        }
+        if (holds) {
+            log.record(EventType.CAPACITY_FULL, flights.getName(flight), capacity, capacity);
+        }
+        admitFromHolding();
+    }
+
+    // Fuel covers holding and the runway queue; once the flight has landed it no longer matters.
+    private void runOutOfFuel(int flight) {
+        switch (flights.getState(flight)) {
+            case HOLDING -> {
+                normalHolding--;
+                divert(flight, false);
+            }
+            case AWAITING_LANDING -> {
+                divert(flight, false);
+                availableCapacity++;
+                admitFromHolding();
+            }
+            default -> {
+            }
+        }
+    }
+
+    private void divert(int flight, boolean rejected) {
+        flights.setState(flight, FlightStore.State.DIVERTED);
+        metrics.recordDiversion(rejected);
+        if (rejected) {
+            log.record(EventType.HOLDING_REJECTED, flights.getName(flight), holdingLimit);
+        } else {
+            log.record(EventType.DIVERTED, flights.getName(flight), calendar.now() - flights.getWaitingStartTime(flight));
+        }
+    }
+
+    private int nextHolding() {
+        int next = emergencyCapacityQueue.poll();
+        if (next != NONE) {
+            emergencyHolding--;
+            return next;
+        }
+        while ((next = normalCapacityQueue.poll()) != NONE) {
+            if (flights.getState(next) != FlightStore.State.DIVERTED) {
+                normalHolding--;
+                return next;
+            }
+        }
+        return NONE;
+    }
+
+    private void admitFromHolding() {
+        int next;
+        while (availableCapacity > 0 && (next = nextHolding()) != NONE) {
+            availableCapacity--;
+            recordPhase(FlightMetrics.Phase.CAPACITY_WAIT, next, flights.getPhaseStartTime(next));
+            flights.setPhaseStartTime(next, calendar.now());
+            flights.setState(next, FlightStore.State.AWAITING_LANDING);
+            (flights.isEmergency(next) ? emergencyLandingQueue : normalLandingQueue).add(next);
+        }
+        dispatchRunway();
+    }
+
+    private void dispatchRunway() {
+        while (true) {
+            // Flights that diverted from the runway queue are dropped when they reach its head.
+            while (!normalLandingQueue.isEmpty()
+                    && flights.getState(normalLandingQueue.peek()) == FlightStore.State.DIVERTED) {
+                normalLandingQueue.poll();
+            }
+            RunwaySequencer.Grant grant = sequencer.next(requestedAt(emergencyLandingQueue),
+                    requestedAt(normalLandingQueue), requestedAt(takeoffQueue), calendar.now(), runwayBusy);
+            if (grant == null) {
+                return;
+            }
+            Runway runway = grant.runway();
+            int flight;
+            switch (grant.movement()) {
+                case EMERGENCY_LANDING -> {
+                    flight = emergencyLandingQueue.poll();
+                    log.record(EventType.EMERGENCY_LANDING_GRANTED, flights.getName(flight), runway.getId(), runways.length);
+                }
+                case LANDING -> {
+                    flight = normalLandingQueue.poll();
+                    log.record(EventType.LANDING_GRANTED, flights.getName(flight), runway.getId(), runways.length);
+                }
+                default -> {
+                    flight = takeoffQueue.poll();
+                    log.record(EventType.TAKEOFF_GRANTED, flights.getName(flight), runway.getId(), runways.length);
+                }
+            }
+            if (grant.movement() == RunwaySequencer.Movement.TAKEOFF) {
+                recordPhase(FlightMetrics.Phase.TAKEOFF_RUNWAY_WAIT, flight, flights.getPhaseStartTime(flight));
+                startTakeoff(flight, runway);
+            } else {
+                recordPhase(FlightMetrics.Phase.LANDING_RUNWAY_WAIT, flight, flights.getPhaseStartTime(flight));
+                startLanding(flight, runway);
+            }
+        }
+    }
+
+    // Flights in a runway queue started their current phase when they joined it.
+    private long requestedAt(IntQueue queue) {
+        return queue.isEmpty() ? -1 : flights.getPhaseStartTime(queue.peek());
+    }
+
+    private void startLanding(int flight, Runway runway) {
+        runwayOccupants[runway.getId()] = flight;
+        flights.setRunwayId(flight, runway.getId());
+        flights.setState(flight, FlightStore.State.LANDING);
+        log.record(EventType.LANDING_STARTED, flights.getName(flight));
+        calendar.schedule(sequencer.occupy(runway, true), () -> {
+            groundPlanes++;
+            log.record(EventType.LANDED, flights.getName(flight), groundPlanes, capacity);
+            requestGate(flight);
+        });
+    }
+
+    // The landed plane holds the runway until a gate is assigned, as in Airplane.run.
+    private void requestGate(int flight) {
+        flights.setPhaseStartTime(flight, calendar.now());
+        int gateId = freeGateNear(gatePolicy.homeStand(flights.getId(flight), gates.length));
+        if (gateId != NONE) {
+            assignGate(flight, gateId);
+            return;
+        }
+        log.record(EventType.GATE_UNAVAILABLE, flights.getName(flight));
+        flights.setState(flight, FlightStore.State.AWAITING_GATE);
+        gateQueue.add(flight, gatePolicy.rank(flights.isEmergency(flight), flights.getPassengerCount(flight)));
+    }
+
+    // Same search as GateAllocator.tryAcquire: outward from the home stand, nearer-in first.
+    private int freeGateNear(int homeStand) {
+        for (int distance = 0; distance < gates.length; distance++) {
+            int inner = homeStand - distance;
+            int outer = homeStand + distance;
+            if (inner >= 0 && gates[inner] == NONE) {
+                return inner;
+            }
+            if (distance > 0 && outer < gates.length && gates[outer] == NONE) {
+                return outer;
+            }
+        }
+        return NONE;
+    }
+
+    private void assignGate(int flight, int gateId) {
+        log.record(EventType.GATE_ASSIGNED, flights.getName(flight), gateId);
+        recordPhase(FlightMetrics.Phase.GATE_WAIT, flight, flights.getPhaseStartTime(flight));
+        gates[gateId] = flight;
+        gateAssignedAt[gateId] = calendar.now();
+        flights.setGateId(flight, gateId);
+        flights.setState(flight, FlightStore.State.AT_GATE);
+        vacateRunway(flight);
+        flights.setWaitingEndTime(flight, calendar.now());
+        log.record(EventType.LANDING_COMPLETE, flights.getName(flight), flights.getWaitingTime(flight));
+        log.record(EventType.TAXI_TO_GATE, flights.getName(flight), gateId);
+        calendar.schedule(config.taxiMillis(gateId), () -> disembark(flight, gateId));
+    }
+
+    private void vacateRunway(int flight) {
+        log.record(EventType.RUNWAY_VACATED, flights.getName(flight), flights.getRunwayId(flight), runways.length);
+        runwayOccupants[flights.getRunwayId(flight)] = NONE;
+        dispatchRunway();
+    }
+
+    private void disembark(int flight, int gateId) {
+        flights.setTurnaroundStartTime(flight, calendar.now());
+        log.record(EventType.DOCKED, flights.getName(flight), gateId);
+        log.record(EventType.DISEMBARKING, flights.getName(flight), flights.getPassengerCount(flight));
+        int batch = passengers.arrive(flight);
+        calendar.schedule(passengers.disembarkMillis(batch), () -> {
+            passengers.disembark(batch, calendar.now());
+            service(flight, gateId);
+        });
+    }
+
+    private void service(int flight, int gateId) {
+        int[] remaining = {2};
+        Runnable stageDone = () -> {
+            if (--remaining[0] == 0) {
+                board(flight, gateId);
+            }
+        };
+        cleaningCrews.acquire(() -> {
+            log.record(EventType.CLEANING_STARTED, flights.getName(flight));
+            calendar.schedule(times.cleaning(), () -> {
+                log.record(EventType.CLEANING_COMPLETE, flights.getName(flight));
+                cleaningCrews.release();
+                stageDone.run();
+            });
+        });
+        log.record(EventType.REFUEL_WAITING, flights.getName(flight));
+        long truckRequested = calendar.now();
+        refuelTrucks.acquire(() -> {
+            recordPhase(FlightMetrics.Phase.TRUCK_WAIT, flight, truckRequested);
+            log.record(EventType.REFUEL_STARTED, flights.getName(flight));
+            calendar.schedule(times.refuel(), () -> {
+                log.record(EventType.REFUEL_COMPLETE, flights.getName(flight));
+                refuelTrucks.release();
+                stageDone.run();
+            });
+        });
+    }
+
+    // Connecting passengers are picked up from the lounge once boarding staff are free.
+    private void board(int flight, int gateId) {
+        boardingStaff.acquire(() -> {
+            int batch = passengers.board(flight, calendar.now());
+            log.record(EventType.BOARDING, flights.getName(flight), flights.getDepartingPassengerCount(flight));
+            calendar.schedule(passengers.boardingMillis(batch), () -> {
+                passengers.depart(batch);
+                boardingStaff.release();
+                releaseGate(flight, gateId);
+            });
+        });
+    }
+
+    private void releaseGate(int flight, int gateId) {
+        gates[gateId] = NONE;
+        gateBusyMillis += calendar.now() - gateAssignedAt[gateId];
+        log.record(EventType.GATE_RELEASED, flights.getName(flight), gateId);
+        recordPhase(FlightMetrics.Phase.TURNAROUND, flight, flights.getTurnaroundStartTime(flight));
+        int waiting = gateQueue.poll();
+        if (waiting != NONE) {
+            assignGate(waiting, gateId);
+        }
+        flights.setPhaseStartTime(flight, calendar.now());
+        flights.setState(flight, FlightStore.State.AWAITING_TAKEOFF);
+        takeoffQueue.add(flight);
+        dispatchRunway();
+    }
+
+    private void startTakeoff(int flight, Runway runway) {
+        runwayOccupants[runway.getId()] = flight;
+        flights.setRunwayId(flight, runway.getId());
+        flights.setState(flight, FlightStore.State.DEPARTING);
+        log.record(EventType.TAKEOFF_STARTED, flights.getName(flight));
+        calendar.schedule(sequencer.occupy(runway, false), () -> {
+            vacateRunway(flight);
+            availableCapacity++;
+            groundPlanes--;
+            flights.setCompletionTime(flight, calendar.now());
+            metrics.recordFlightCompleted(flights.getPassengerCount(flight) + flights.getDepartingPassengerCount(flight));
+            log.record(EventType.FLIGHT_COMPLETE, flights.getName(flight));
+            departureListener.accept(flight);
+            admitFromHolding();
+        });
+    }
+
+    private void recordPhase(FlightMetrics.Phase phase, int flight, long sinceMillis) {
+        metrics.record(phase, flights.isEmergency(flight), (calendar.now() - sinceMillis) * 1_000_000);
+    }
+}
@@ -0,0 +1,53 @@
+package com.mycompany.airportsimulation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Usage: DispatcherLatencyRun [planes] [idleSeconds]
+// Measures ATC wake-ups while idle, then runway grant latency with sleeps scaled to zero. An idle
+// airport has no dispatcher thread at all; one plane goes through first so it has been started.
+public class DispatcherLatencyRun {
+
+    public static void main(String[] args) throws InterruptedException {
+        int planeCount = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+        int idleSeconds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        Airport airport = new Airport(AirportConfig.builder()
+                .gates(planeCount)
+                .capacity(planeCount)
+                .serviceTimes(ServiceTimes.DEFAULT.scaled(0))
+                .executionMode(ExecutionMode.fromSystemProperty())
+                .build(), EventLog.silent());
+        ATC atc = airport.getATC();
+        Airplane first = new Airplane("0", airport, false);
+        first.start();
+        first.join(0);
+
+        long wakeupsBefore = atc.getDispatcherWakeups();
+        Thread.sleep(idleSeconds * 1000L);
+        long idleWakeups = atc.getDispatcherWakeups() - wakeupsBefore;
+        boolean idleDispatcher = atc.getDispatcherThread() != null;
+
+        List<Airplane> planes = new ArrayList<>(planeCount);
+        long start = System.nanoTime();
+        for (int i = 1; i <= planeCount; i++) {
+            Airplane plane = new Airplane(String.valueOf(i), airport, i % 50 == 0);
+            plane.start();
+            planes.add(plane);
+        }
+        for (Airplane plane : planes) {
+            plane.join(0);
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        System.out.println("=== ATC Dispatcher: " + planeCount + " planes ===");
+        System.out.println("Idle for " + idleSeconds + " s: " + idleWakeups + " wake-ups, dispatcher thread "
+                + (idleDispatcher ? "still running" : "released"));
+        System.out.println("Runway grants: " + atc.getGrantCount());
+        System.out.println("Average grant latency: " + atc.getAverageGrantLatencyNanos() / 1000 + " us");
+        System.out.println("Maximum grant latency: " + atc.getMaxGrantLatencyNanos() / 1000 + " us");
+        System.out.println("Completed in " + elapsedNanos / 1_000_000 + " ms");
+        airport.close();
+        System.out.println("=== END ===");
+    }
+}
@@ -0,0 +1,29 @@
+package com.mycompany.airportsimulation;
+
+import java.util.Random;
+
+// Gives each plane its own random stream derived from the run seed and the plane's id, so
+// its draws do not depend on which thread or engine asks first or how many planes exist.
+final class EntityRandom {
+    static final long MULTIPLIER = 0x5DEECE66DL;
+    static final long MASK = (1L << 48) - 1;
+
+    private EntityRandom() {
+    }
+
+    static Random forEntity(long seed, String entityId) {
+        return new Random(mix(seed, entityId));
+    }
+
+    // The state java.util.Random starts from for this entity, for callers that keep it in a column.
+    static long initialState(long seed, String entityId) {
+        return (mix(seed, entityId) ^ MULTIPLIER) & MASK;
+    }
+
+    private static long mix(long seed, String entityId) {
+        long z = seed + 0x9E3779B97F4A7C15L * (entityId.hashCode() + 1L);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,55 @@
+package com.mycompany.airportsimulation;
+
+import java.util.PriorityQueue;
+
+public class EventCalendar {
+    private final PriorityQueue<Event> events = new PriorityQueue<>();
+    private long now;
+    private long sequence;
+    private long processed;
+
+    private record Event(long time, long sequence, Runnable action) implements Comparable<Event> {
+        @Override
+        public int compareTo(Event other) {
+            int byTime = Long.compare(time, other.time);
+            return byTime != 0 ? byTime : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    public long now() {
+        return now;
+    }
+
+    public void schedule(long delayMillis, Runnable action) {
+        scheduleAt(now + delayMillis, action);
+    }
+
+    public void scheduleAt(long timeMillis, Runnable action) {
+        if (timeMillis < now) {
+            throw new IllegalArgumentException("Cannot schedule in the past: " + timeMillis + " < " + now);
+        }
+        events.add(new Event(timeMillis, sequence++, action));
+    }
+
+    // Events at the same instant run in the order they were scheduled.
+    public void run() {
+        runUntil(Long.MAX_VALUE);
+    }
+
+    public void runUntil(long endMillis) {
+        while (!events.isEmpty() && events.peek().time() <= endMillis) {
+            Event event = events.poll();
+            now = event.time();
+            event.action().run();
+            processed++;
+        }
+    }
+
+    public boolean isEmpty() {
+        return events.isEmpty();
+    }
+
+    public long getProcessedEvents() {
+        return processed;
+    }
+}
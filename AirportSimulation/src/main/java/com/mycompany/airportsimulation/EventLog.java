@@ -0,0 +1,227 @@
+package com.mycompany.airportsimulation;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+// Multi-producer ring of preallocated event slots drained by one background consumer.
+// Producers claim a sequence, fill the slot's primitive columns and publish it; nothing
+// is formatted or allocated on the calling thread. When the ring is full, producers wait.
+public class EventLog implements AutoCloseable {
+    public static final String PROPERTY = "airport.log";
+    private static final int DEFAULT_CAPACITY = 1 << 14;
+
+    public enum Level {
+        OFF,
+        WARN,
+        INFO,
+        DEBUG;
+
+        public static Level fromSystemProperty() {
+            return parse(System.getProperty(PROPERTY, "debug"));
+        }
+
+        public static Level parse(String value) {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private final Level level;
+    private final LongSupplier clock;
+    private final EventSink sink;
+    private final int capacity;
+    private final int mask;
+    private final long[] timestamps;
+    private final int[] types;
+    private final String[] subjects;
+    private final long[] argA;
+    private final long[] argB;
+    private final AtomicLongArray published;
+    private final AtomicLong claimed = new AtomicLong();
+    private volatile long consumed;
+    private volatile long flushed;
+    private volatile boolean consumerSleeping;
+    private volatile boolean closed;
+    private final Thread consumer;
+
+    public EventLog(Level level, LongSupplier clock, EventSink sink) {
+        this(level, clock, sink, DEFAULT_CAPACITY);
+    }
+
+    public EventLog(Level level, LongSupplier clock, EventSink sink, int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        this.level = level;
+        this.clock = clock;
+        this.sink = sink;
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.timestamps = new long[capacity];
+        this.types = new int[capacity];
+        this.subjects = new String[capacity];
+        this.argA = new long[capacity];
+        this.argB = new long[capacity];
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1);
+        }
+        if (level == Level.OFF) {
+            consumer = null;
+        } else {
+            consumer = Thread.ofPlatform().name("EventLog").daemon(true).unstarted(this::drain);
+            consumer.start();
+        }
+    }
+
+    public static EventLog console(Level level) {
+        return new EventLog(level, System::currentTimeMillis, new TextEventSink(System.out));
+    }
+
+    // Console and/or binary trace as the config asks; the trace header records the seed. The
+    // log level only filters the console: a trace records every event type, even with log=off.
+    public static EventLog open(AirportConfig config, LongSupplier clock, long seed) {
+        Level level = config.getLogLevel();
+        boolean console = config.isConsoleEnabled() && level != Level.OFF;
+        if (!console && config.getTracePath() == null) {
+            return silent();
+        }
+        if (config.getTracePath() == null) {
+            return new EventLog(level, clock, new TextEventSink(System.out));
+        }
+        try {
+            EventSink trace = new BinaryTraceSink(config.getTracePath(), seed);
+            EventSink sink = console
+                    ? EventSink.both(EventSink.atLevel(level, new TextEventSink(System.out)), trace)
+                    : trace;
+            return new EventLog(Level.DEBUG, clock, sink);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static EventLog silent() {
+        return new EventLog(Level.OFF, () -> 0, (timestamp, type, subject, a, b) -> { }, 1);
+    }
+
+    public boolean isEnabled(EventType type) {
+        return type.getLevel().compareTo(level) <= 0;
+    }
+
+    public Level getLevel() {
+        return level;
+    }
+
+    public void message(String text) {
+        record(EventType.MESSAGE, text, 0, 0);
+    }
+
+    public void record(EventType type, String subject) {
+        record(type, subject, 0, 0);
+    }
+
+    public void record(EventType type, String subject, long a) {
+        record(type, subject, a, 0);
+    }
+
+    public void record(EventType type, String subject, long a, long b) {
+        if (!isEnabled(type) || closed) {
+            return;
+        }
+        // The consumer only stops once it has drained every sequence claimed before it saw the
+        // log closed, so this event is lost only if the claim lands after close() has begun.
+        long sequence = claimed.getAndIncrement();
+        if (!awaitFreeSlot(sequence)) {
+            return;
+        }
+        int slot = (int) (sequence & mask);
+        timestamps[slot] = clock.getAsLong();
+        types[slot] = type.ordinal();
+        subjects[slot] = subject;
+        argA[slot] = a;
+        argB[slot] = b;
+        published.set(slot, sequence);
+        if (consumerSleeping) {
+            consumerSleeping = false;
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    // Blocks until every event recorded before this call has reached the sink.
+    public void flush() {
+        if (consumer == null) {
+            return;
+        }
+        long target = claimed.get();
+        while (flushed < target && consumer.isAlive()) {
+            LockSupport.unpark(consumer);
+            LockSupport.parkNanos(100_000);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (consumer == null || closed) {
+            return;
+        }
+        flush();
+        closed = true;
+        LockSupport.unpark(consumer);
+        try {
+            consumer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        sink.close();
+    }
+
+    // False if the log closed and its consumer stopped first, so the slot will never be freed.
+    private boolean awaitFreeSlot(long sequence) {
+        int spins = 0;
+        while (sequence - consumed >= capacity) {
+            if (closed && !consumer.isAlive()) {
+                return false;
+            }
+            if (++spins < 100) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.unpark(consumer);
+                LockSupport.parkNanos(10_000);
+            }
+        }
+        return true;
+    }
+
+    private void drain() {
+        long next = 0;
+        boolean dirty = false;
+        while (true) {
+            int slot = (int) (next & mask);
+            if (published.get(slot) == next) {
+                sink.accept(timestamps[slot], EventType.fromOrdinal(types[slot]), subjects[slot],
+                        argA[slot], argB[slot]);
+                subjects[slot] = null;
+                consumed = ++next;
+                dirty = true;
+                continue;
+            }
+            if (dirty) {
+                sink.flush();
+                dirty = false;
+            }
+            flushed = next;
+            if (closed && claimed.get() == next) {
+                return;
+            }
+            consumerSleeping = true;
+            if (published.get(slot) != next) {
+                LockSupport.parkNanos(this, 1_000_000);
+            }
+            consumerSleeping = false;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.mycompany.airportsimulation;
+
+public interface EventSink {
+
+    void accept(long timestamp, EventType type, String subject, long a, long b);
+
+    // Called whenever the log has drained everything published so far.
+    default void flush() {
+    }
+
+    // Called once by EventLog.close after the last event.
+    default void close() {
+    }
+
+    // Passes on only the event types enabled at the given level.
+    static EventSink atLevel(EventLog.Level level, EventSink sink) {
+        return new EventSink() {
+            @Override
+            public void accept(long timestamp, EventType type, String subject, long a, long b) {
+                if (type.getLevel().compareTo(level) <= 0) {
+                    sink.accept(timestamp, type, subject, a, b);
+                }
+            }
+
+            @Override
+            public void flush() {
+                sink.flush();
+            }
+
+            @Override
+            public void close() {
+                sink.close();
+            }
+        };
+    }
+
+    static EventSink both(EventSink first, EventSink second) {
+        return new EventSink() {
+            @Override
+            public void accept(long timestamp, EventType type, String subject, long a, long b) {
+                first.accept(timestamp, type, subject, a, b);
+                second.accept(timestamp, type, subject, a, b);
+            }
+
+            @Override
+            public void flush() {
+                first.flush();
+                second.flush();
+            }
+
+            @Override
+            public void close() {
+                first.close();
+                second.close();
+            }
+        };
+    }
+}
@@ -0,0 +1,104 @@
+package com.mycompany.airportsimulation;
+
+public enum EventType {
+    MESSAGE(EventLog.Level.WARN),
+    LANDING_REQUESTED(EventLog.Level.INFO),
+    CAPACITY_FULL(EventLog.Level.WARN),
+    EMERGENCY_LANDING_GRANTED(EventLog.Level.INFO),
+    LANDING_GRANTED(EventLog.Level.INFO),
+    LANDING_STARTED(EventLog.Level.INFO),
+    LANDED(EventLog.Level.INFO),
+    GATE_UNAVAILABLE(EventLog.Level.WARN),
+    GATE_ASSIGNED(EventLog.Level.INFO),
+    RUNWAY_VACATED(EventLog.Level.INFO),
+    LANDING_COMPLETE(EventLog.Level.INFO),
+    TAXI_TO_GATE(EventLog.Level.DEBUG),
+    DOCKED(EventLog.Level.DEBUG),
+    DISEMBARKING(EventLog.Level.DEBUG),
+    CLEANING_STARTED(EventLog.Level.DEBUG),
+    CLEANING_COMPLETE(EventLog.Level.DEBUG),
+    REFUEL_WAITING(EventLog.Level.DEBUG),
+    REFUEL_STARTED(EventLog.Level.DEBUG),
+    REFUEL_COMPLETE(EventLog.Level.DEBUG),
+    CATERING_STARTED(EventLog.Level.DEBUG),
+    CATERING_COMPLETE(EventLog.Level.DEBUG),
+    BOARDING(EventLog.Level.DEBUG),
+    GATE_RELEASED(EventLog.Level.INFO),
+    TAKEOFF_GRANTED(EventLog.Level.INFO),
+    TAKEOFF_STARTED(EventLog.Level.INFO),
+    FLIGHT_COMPLETE(EventLog.Level.INFO),
+    HOLDING_REJECTED(EventLog.Level.WARN),
+    DIVERTED(EventLog.Level.WARN),
+    AIRPORT_CLOSED(EventLog.Level.WARN);
+
+    private static final EventType[] VALUES = values();
+
+    private final EventLog.Level level;
+
+    EventType(EventLog.Level level) {
+        this.level = level;
+    }
+
+    public EventLog.Level getLevel() {
+        return level;
+    }
+
+    public static EventType fromOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    // Produces exactly the console lines the simulation printed before the event log existed.
+    public void render(StringBuilder out, String subject, long a, long b) {
+        switch (this) {
+            case MESSAGE -> out.append(subject);
+            case LANDING_REQUESTED -> out.append(subject).append(": Requesting landing")
+                    .append(a != 0 ? " (EMERGENCY)" : "").append('.');
+            case CAPACITY_FULL -> out.append(subject)
+                    .append(": Waiting for ground space - airport at full capacity (")
+                    .append(a).append('/').append(b).append(')');
+            case EMERGENCY_LANDING_GRANTED -> appendRunway(out.append("ATC: Emergency landing granted to ")
+                    .append(subject), a, b);
+            case LANDING_GRANTED -> appendRunway(out.append("ATC: Landing granted to ").append(subject), a, b);
+            case LANDING_STARTED -> out.append(subject).append(": Landing...");
+            case LANDED -> out.append("ATC: ").append(subject).append(" has landed. Current capacity ")
+                    .append(a).append('/').append(b);
+            case GATE_UNAVAILABLE -> out.append("ATC: No gates available for ").append(subject).append(", waiting...");
+            case GATE_ASSIGNED -> out.append("ATC: Gate-").append(a).append(" assigned for ").append(subject);
+            case RUNWAY_VACATED -> {
+                out.append("ATC: Runway");
+                if (b > 1) {
+                    out.append('-').append(a);
+                }
+                out.append(" vacated by ").append(subject);
+            }
+            case LANDING_COMPLETE -> out.append(subject).append(": Landed successfully after waiting ")
+                    .append(a).append("ms.");
+            case TAXI_TO_GATE -> out.append(subject).append(": Coasting to Gate-").append(a).append('.');
+            case DOCKED -> out.append(subject).append(": Docked at Gate-").append(a).append('.');
+            case DISEMBARKING -> out.append(subject).append(": ").append(a).append(" passengers disembarking.");
+            case CLEANING_STARTED -> out.append(subject).append(": Cleaning...");
+            case CLEANING_COMPLETE -> out.append(subject).append(": Cleaning complete.");
+            case REFUEL_WAITING -> out.append(subject).append(": Waiting for refuel truck...");
+            case REFUEL_STARTED -> out.append(subject).append(": Refueling...");
+            case REFUEL_COMPLETE -> out.append(subject).append(": Refueling complete.");
+            case CATERING_STARTED -> out.append(subject).append(": Catering...");
+            case CATERING_COMPLETE -> out.append(subject).append(": Catering complete.");
+            case BOARDING -> out.append(subject).append(": ").append(a).append(" passengers boarding...");
+            case GATE_RELEASED -> out.append("ATC: ").append(subject).append(" left Gate-").append(a);
+            case TAKEOFF_GRANTED -> appendRunway(out.append("ATC: Takeoff granted to ").append(subject), a, b);
+            case TAKEOFF_STARTED -> out.append(subject).append(": Taking off...");
+            case FLIGHT_COMPLETE -> out.append(subject).append(": Successfully completed all operations.");
+            case HOLDING_REJECTED -> out.append("ATC: Holding stack full (").append(a).append(" planes), ")
+                    .append(subject).append(" diverted on arrival.");
+            case DIVERTED -> out.append(subject).append(": Diverting after holding ").append(a).append("ms.");
+            case AIRPORT_CLOSED -> out.append("ATC: Airport closed, ").append(subject).append(" diverted on arrival.");
+        }
+    }
+
+    // Runway names only appear once an airport has more than one runway.
+    private static void appendRunway(StringBuilder out, long runwayId, long runwayCount) {
+        if (runwayCount > 1) {
+            out.append(" on Runway-").append(runwayId);
+        }
+    }
+}
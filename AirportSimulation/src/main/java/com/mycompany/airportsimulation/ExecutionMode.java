@@ -0,0 +1,35 @@
+package com.mycompany.airportsimulation;
+
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public enum ExecutionMode {
+    PLATFORM,
+    VIRTUAL;
+
+    public static final String PROPERTY = "airport.threads";
+
+    public static ExecutionMode fromSystemProperty() {
+        return parse(System.getProperty(PROPERTY, "platform"));
+    }
+
+    public static ExecutionMode parse(String value) {
+        return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+
+    public Thread newThread(String name, Runnable task) {
+        if (this == VIRTUAL) {
+            return Thread.ofVirtual().name(name).unstarted(task);
+        }
+        return Thread.ofPlatform().name(name).unstarted(task);
+    }
+
+    // Platform workers are pooled and reused; idle ones are retired by the cached pool.
+    public ExecutorService newSharedExecutor(String namePrefix) {
+        if (this == VIRTUAL) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(namePrefix + "-", 1).factory());
+        }
+        return Executors.newCachedThreadPool(Thread.ofPlatform().name(namePrefix + "-", 1).daemon(true).factory());
+    }
+}
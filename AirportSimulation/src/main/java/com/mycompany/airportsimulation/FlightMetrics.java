@@ -0,0 +1,101 @@
+package com.mycompany.airportsimulation;
+
+import java.io.PrintStream;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+// Per-airport latency histograms for each phase of a flight, kept separately for emergency
+// and normal traffic. Values are nanoseconds; the discrete-event engine converts simulated
+// milliseconds before recording.
+public class FlightMetrics {
+
+    public enum Phase {
+        CAPACITY_WAIT("capacity wait"),
+        LANDING_RUNWAY_WAIT("runway wait (landing)"),
+        GATE_WAIT("gate wait"),
+        TRUCK_WAIT("refuel truck wait"),
+        TURNAROUND("turnaround"),
+        TAKEOFF_RUNWAY_WAIT("runway wait (takeoff)"),
+        // Per passenger rather than per flight: lounge time of connecting passengers (discrete-event only).
+        CONNECTION("connection");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private final LatencyHistogram[][] histograms = new LatencyHistogram[Phase.values().length][2];
+    private final LongAdder flightsCompleted = new LongAdder();
+    private final LongAdder passengersHandled = new LongAdder();
+    private final LongAdder flightsDiverted = new LongAdder();
+    private final LongAdder flightsRejected = new LongAdder();
+
+    public FlightMetrics() {
+        for (LatencyHistogram[] byClass : histograms) {
+            byClass[0] = new LatencyHistogram();
+            byClass[1] = new LatencyHistogram();
+        }
+    }
+
+    public void record(Phase phase, boolean emergency, long nanos) {
+        histograms[phase.ordinal()][emergency ? 1 : 0].record(nanos);
+    }
+
+    public void recordFlightCompleted(int passengers) {
+        flightsCompleted.increment();
+        passengersHandled.add(passengers);
+    }
+
+    // Shed load: rejected planes found the holding stack full, the rest ran out of holding fuel.
+    public void recordDiversion(boolean rejected) {
+        (rejected ? flightsRejected : flightsDiverted).increment();
+    }
+
+    public long getFlightsDiverted() {
+        return flightsDiverted.sum();
+    }
+
+    public long getFlightsRejected() {
+        return flightsRejected.sum();
+    }
+
+    public long getFlightsCompleted() {
+        return flightsCompleted.sum();
+    }
+
+    public long getPassengersHandled() {
+        return passengersHandled.sum();
+    }
+
+    public LatencyHistogram.Snapshot snapshot(Phase phase, boolean emergency) {
+        return histograms[phase.ordinal()][emergency ? 1 : 0].snapshot();
+    }
+
+    public void printReport(PrintStream out) {
+        out.println("\n=== Phase Latency (ms) ===");
+        out.println(String.format(Locale.ROOT, "%-22s %-9s %8s %9s %9s %9s %9s",
+                "Phase", "Traffic", "Count", "p50", "p99", "p99.9", "Max"));
+        for (Phase phase : Phase.values()) {
+            for (boolean emergency : new boolean[]{false, true}) {
+                LatencyHistogram.Snapshot snapshot = snapshot(phase, emergency);
+                if (snapshot.getCount() == 0) {
+                    continue;
+                }
+                out.println(String.format(Locale.ROOT, "%-22s %-9s %8d %9.2f %9.2f %9.2f %9.2f",
+                        phase.getLabel(), emergency ? "emergency" : "normal", snapshot.getCount(),
+                        millis(snapshot.percentile(50)), millis(snapshot.percentile(99)),
+                        millis(snapshot.percentile(99.9)), millis(snapshot.getMax())));
+            }
+        }
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
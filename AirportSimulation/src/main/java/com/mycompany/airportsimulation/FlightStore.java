@@ -0,0 +1,229 @@
+package com.mycompany.airportsimulation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Flight state for the discrete-event engine, one primitive column per field and an int
+// handle per flight (its row). A flight costs about 80 bytes here instead of an object
+// with its own Random, and scans over a column stay in cache.
+public class FlightStore {
+    private static final int INITIAL_CAPACITY = 64;
+    private static final byte EMERGENCY = 1;
+    private static final long PASSENGER_SALT = 0x50415353454E47L;
+
+    public enum State {
+        SCHEDULED,
+        HOLDING,
+        AWAITING_LANDING,
+        LANDING,
+        AWAITING_GATE,
+        AT_GATE,
+        AWAITING_TAKEOFF,
+        DEPARTING,
+        COMPLETED,
+        DIVERTED;
+
+        private static final State[] VALUES = values();
+    }
+
+    private final long seed;
+    private int size;
+    private String[] ids = new String[INITIAL_CAPACITY];
+    private String[] names = new String[INITIAL_CAPACITY];
+    private byte[] flags = new byte[INITIAL_CAPACITY];
+    private byte[] states = new byte[INITIAL_CAPACITY];
+    private short[] passengers = new short[INITIAL_CAPACITY];
+    private short[] departingPassengers = new short[INITIAL_CAPACITY];
+    private int[] gates = new int[INITIAL_CAPACITY];
+    private short[] runways = new short[INITIAL_CAPACITY];
+    private long[] randomStates = new long[INITIAL_CAPACITY];
+    private long[] passengerRandomStates = new long[INITIAL_CAPACITY];
+    private long[] waitingStart = new long[INITIAL_CAPACITY];
+    private long[] waitingEnd = new long[INITIAL_CAPACITY];
+    private long[] phaseStart = new long[INITIAL_CAPACITY];
+    private long[] turnaroundStart = new long[INITIAL_CAPACITY];
+    private long[] completion = new long[INITIAL_CAPACITY];
+
+    public FlightStore(long seed) {
+        this.seed = seed;
+    }
+
+    // Passenger counts come from the flight's own stream, as Airplane draws them.
+    public int add(String id, boolean emergency) {
+        if (size == ids.length) {
+            grow();
+        }
+        int flight = size++;
+        ids[flight] = id;
+        flags[flight] = emergency ? EMERGENCY : 0;
+        states[flight] = (byte) State.SCHEDULED.ordinal();
+        gates[flight] = -1;
+        runways[flight] = -1;
+        completion[flight] = -1;
+        randomStates[flight] = EntityRandom.initialState(seed, id);
+        passengerRandomStates[flight] = EntityRandom.initialState(seed ^ PASSENGER_SALT, id);
+        passengers[flight] = (short) (id.equals("1") ? 10 : nextInt(randomStates, flight, 40) + 10);
+        return flight;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String getId(int flight) {
+        return ids[flight];
+    }
+
+    // Built on first use; silent runs never create them.
+    public String getName(int flight) {
+        String name = names[flight];
+        if (name == null) {
+            name = "Plane-" + ids[flight] + (isEmergency(flight) ? "-EMERGENCY" : "");
+            names[flight] = name;
+        }
+        return name;
+    }
+
+    public boolean isEmergency(int flight) {
+        return (flags[flight] & EMERGENCY) != 0;
+    }
+
+    public State getState(int flight) {
+        return State.VALUES[states[flight]];
+    }
+
+    void setState(int flight, State state) {
+        states[flight] = (byte) state.ordinal();
+    }
+
+    public int getPassengerCount(int flight) {
+        return passengers[flight];
+    }
+
+    public int getDepartingPassengerCount(int flight) {
+        return departingPassengers[flight];
+    }
+
+    void setDepartingPassengerCount(int flight, int count) {
+        departingPassengers[flight] = (short) count;
+    }
+
+    int drawDepartingPassengerCount(int flight) {
+        return nextInt(randomStates, flight, 50) + 1;
+    }
+
+    // Bags, boarding groups and connections come from a second stream, so the flight's own
+    // draws stay the same as Airplane's however many passengers it carries.
+    int drawPassengerInt(int flight, int bound) {
+        return nextInt(passengerRandomStates, flight, bound);
+    }
+
+    public int getGateId(int flight) {
+        return gates[flight];
+    }
+
+    void setGateId(int flight, int gateId) {
+        gates[flight] = gateId;
+    }
+
+    public int getRunwayId(int flight) {
+        return runways[flight];
+    }
+
+    void setRunwayId(int flight, int runwayId) {
+        runways[flight] = (short) runwayId;
+    }
+
+    public long getWaitingTime(int flight) {
+        return waitingEnd[flight] - waitingStart[flight];
+    }
+
+    long getWaitingStartTime(int flight) {
+        return waitingStart[flight];
+    }
+
+    void setWaitingStartTime(int flight, long time) {
+        waitingStart[flight] = time;
+    }
+
+    void setWaitingEndTime(int flight, long time) {
+        waitingEnd[flight] = time;
+    }
+
+    long getPhaseStartTime(int flight) {
+        return phaseStart[flight];
+    }
+
+    void setPhaseStartTime(int flight, long time) {
+        phaseStart[flight] = time;
+    }
+
+    long getTurnaroundStartTime(int flight) {
+        return turnaroundStart[flight];
+    }
+
+    void setTurnaroundStartTime(int flight, long time) {
+        turnaroundStart[flight] = time;
+    }
+
+    public boolean isCompleted(int flight) {
+        return completion[flight] >= 0;
+    }
+
+    public long getCompletionTime(int flight) {
+        return completion[flight];
+    }
+
+    void setCompletionTime(int flight, long time) {
+        completion[flight] = time;
+        setState(flight, State.COMPLETED);
+    }
+
+    public List<Long> getCompletedWaitingTimes() {
+        List<Long> waitTimes = new ArrayList<>();
+        for (int flight = 0; flight < size; flight++) {
+            if (isCompleted(flight)) {
+                waitTimes.add(getWaitingTime(flight));
+            }
+        }
+        return waitTimes;
+    }
+
+    // java.util.Random.nextInt(bound) on one of the flight's state columns.
+    private static int nextInt(long[] states, int flight, int bound) {
+        int r = next(states, flight);
+        int m = bound - 1;
+        if ((bound & m) == 0) {
+            return (int) ((bound * (long) r) >> 31);
+        }
+        for (int u = r; u - (r = u % bound) + m < 0; u = next(states, flight)) {
+        }
+        return r;
+    }
+
+    private static int next(long[] states, int flight) {
+        long state = (states[flight] * EntityRandom.MULTIPLIER + 0xBL) & EntityRandom.MASK;
+        states[flight] = state;
+        return (int) (state >>> 17);
+    }
+
+    private void grow() {
+        int capacity = ids.length * 2;
+        ids = Arrays.copyOf(ids, capacity);
+        names = Arrays.copyOf(names, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+        states = Arrays.copyOf(states, capacity);
+        passengers = Arrays.copyOf(passengers, capacity);
+        departingPassengers = Arrays.copyOf(departingPassengers, capacity);
+        gates = Arrays.copyOf(gates, capacity);
+        runways = Arrays.copyOf(runways, capacity);
+        randomStates = Arrays.copyOf(randomStates, capacity);
+        passengerRandomStates = Arrays.copyOf(passengerRandomStates, capacity);
+        waitingStart = Arrays.copyOf(waitingStart, capacity);
+        waitingEnd = Arrays.copyOf(waitingEnd, capacity);
+        phaseStart = Arrays.copyOf(phaseStart, capacity);
+        turnaroundStart = Arrays.copyOf(turnaroundStart, capacity);
+        completion = Arrays.copyOf(completion, capacity);
+    }
+}
@@ -0,0 +1,201 @@
+package com.mycompany.airportsimulation;
+
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+// Free gates live in a bitmap claimed with CAS, nearest stand first like the old linear scan.
+// A released gate goes straight to one parked waiter, the one the GatePolicy ranks first,
+// instead of waking everyone.
+public class GateAllocator {
+    private static final int WAITING = -1;
+    private static final int CANCELLED = -2;
+
+    // FCFS serves waiting planes in arrival order, PRIORITY lets emergencies go first and
+    // SHORTEST_TURNAROUND then prefers the plane with the fewest passengers to disembark.
+    // All three use the nearest free stand. AFFINITY ranks like PRIORITY but gives each flight
+    // number a home stand, as airports do for recurring flights, and parks it as close to that
+    // stand as it can.
+    public enum Policy implements GatePolicy {
+        FCFS,
+        PRIORITY,
+        SHORTEST_TURNAROUND,
+        AFFINITY;
+
+        @Override
+        public long rank(boolean emergency, int arrivingPassengers) {
+            return switch (this) {
+                case FCFS -> 0;
+                case PRIORITY, AFFINITY -> emergency ? 0 : 1;
+                case SHORTEST_TURNAROUND -> emergency ? 0 : 1 + (long) arrivingPassengers;
+            };
+        }
+
+        @Override
+        public int homeStand(String flightId, int stands) {
+            return this == AFFINITY ? Math.floorMod(flightId.hashCode(), stands) : 0;
+        }
+
+        public static Policy parse(String value) {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private static final Comparator<Waiter> ORDER = Comparator.comparingLong((Waiter waiter) -> waiter.rank)
+            .thenComparingLong(waiter -> waiter.sequence);
+
+    private final int totalGates;
+    private final AtomicLongArray freeBits;
+    private final AtomicInteger freeCount;
+    private final ConcurrentSkipListSet<Waiter> waiters = new ConcurrentSkipListSet<>(ORDER);
+    private final AtomicLong arrivals = new AtomicLong();
+
+    private final class Waiter {
+        final Thread thread = Thread.currentThread();
+        final AtomicInteger state = new AtomicInteger(WAITING);
+        final long rank;
+        final long sequence = arrivals.getAndIncrement();
+
+        Waiter(long rank) {
+            this.rank = rank;
+        }
+    }
+
+    public GateAllocator(int totalGates) {
+        this.totalGates = totalGates;
+        this.freeBits = new AtomicLongArray((totalGates + 63) / 64);
+        this.freeCount = new AtomicInteger(totalGates);
+        for (int i = 0; i < totalGates; i++) {
+            freeBits.set(i >>> 6, freeBits.get(i >>> 6) | 1L << i);
+        }
+    }
+
+    // Returns the nearest free gate id, or -1 without blocking.
+    public int tryAcquire() {
+        if (freeCount.get() == 0) {
+            return -1;
+        }
+        for (int word = 0; word < freeBits.length(); word++) {
+            long bits = freeBits.get(word);
+            while (bits != 0) {
+                long lowest = bits & -bits;
+                if (freeBits.compareAndSet(word, bits, bits & ~lowest)) {
+                    freeCount.decrementAndGet();
+                    return (word << 6) + Long.numberOfTrailingZeros(lowest);
+                }
+                bits = freeBits.get(word);
+            }
+        }
+        return -1;
+    }
+
+    // The free gate closest to homeStand, or -1 without blocking.
+    public int tryAcquire(int homeStand) {
+        if (homeStand <= 0) {
+            return tryAcquire();
+        }
+        for (int distance = 0; freeCount.get() > 0 && distance < totalGates; distance++) {
+            int inner = homeStand - distance;
+            int outer = homeStand + distance;
+            if (inner >= 0 && tryClaim(inner)) {
+                return inner;
+            }
+            if (distance > 0 && outer < totalGates && tryClaim(outer)) {
+                return outer;
+            }
+        }
+        return -1;
+    }
+
+    public int acquire(boolean emergency) throws InterruptedException {
+        return acquire(emergency ? 0 : 1, 0);
+    }
+
+    // Called once the caller has already found no free gate and reported that it is waiting.
+    // Waiters are served lowest rank first, then in the order they started waiting.
+    public int acquire(long rank, int homeStand) throws InterruptedException {
+        Waiter waiter = new Waiter(rank);
+        waiters.add(waiter);
+
+        // A release may have missed this waiter between the failed tryAcquire and the enqueue.
+        int gateId = tryAcquire(homeStand);
+        if (gateId >= 0) {
+            if (waiter.state.compareAndSet(WAITING, CANCELLED)) {
+                return gateId;
+            }
+            release(gateId);
+            return waiter.state.get();
+        }
+
+        while (waiter.state.get() == WAITING) {
+            LockSupport.park(this);
+            if (Thread.interrupted()) {
+                if (waiter.state.compareAndSet(WAITING, CANCELLED)) {
+                    throw new InterruptedException();
+                }
+                Thread.currentThread().interrupt();
+            }
+        }
+        return waiter.state.get();
+    }
+
+    public void release(int gateId) {
+        while (true) {
+            Waiter waiter = waiters.pollFirst();
+            if (waiter != null) {
+                if (waiter.state.compareAndSet(WAITING, gateId)) {
+                    LockSupport.unpark(waiter.thread);
+                    return;
+                }
+                continue;
+            }
+
+            setFree(gateId);
+            // A waiter that enqueued after the poll may already have re-checked the bitmap;
+            // take the gate back and hand it over directly if it is still ours to give.
+            if (waiters.isEmpty() || !tryClaim(gateId)) {
+                return;
+            }
+        }
+    }
+
+    public boolean isFree(int gateId) {
+        return (freeBits.get(gateId >>> 6) & 1L << gateId) != 0;
+    }
+
+    public int getFreeGates() {
+        return freeCount.get();
+    }
+
+    public int getTotalGates() {
+        return totalGates;
+    }
+
+    private void setFree(int gateId) {
+        int word = gateId >>> 6;
+        long bit = 1L << gateId;
+        long bits;
+        do {
+            bits = freeBits.get(word);
+        } while (!freeBits.compareAndSet(word, bits, bits | bit));
+        freeCount.incrementAndGet();
+    }
+
+    private boolean tryClaim(int gateId) {
+        int word = gateId >>> 6;
+        long bit = 1L << gateId;
+        long bits;
+        do {
+            bits = freeBits.get(word);
+            if ((bits & bit) == 0) {
+                return false;
+            }
+        } while (!freeBits.compareAndSet(word, bits, bits & ~bit));
+        freeCount.decrementAndGet();
+        return true;
+    }
+}
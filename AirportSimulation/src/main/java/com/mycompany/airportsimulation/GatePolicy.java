@@ -0,0 +1,13 @@
+package com.mycompany.airportsimulation;
+
+// Decides which waiting plane a freed stand goes to and which free stand a plane is given.
+// Stands are numbered outward from the runway, so stand 0 is the nearest. The built-in
+// policies are GateAllocator.Policy, and config.gatePolicy takes any other.
+public interface GatePolicy {
+
+    // Waiting planes are served lowest rank first, in arrival order within a rank.
+    long rank(boolean emergency, int arrivingPassengers);
+
+    // A plane takes the free stand closest to this one, the nearer-in stand on a tie.
+    int homeStand(String flightId, int stands);
+}
@@ -0,0 +1,121 @@
+package com.mycompany.airportsimulation;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Airport-wide pool of ground resources shared by every gate. Each service is asynchronous:
+// it waits for its crew through a ResourcePool and for the work itself on a timer, so no
+// worker thread is held while a plane is being cleaned, refuelled or boarded. Workers only
+// run the short steps between those waits.
+public class GroundServices {
+    private final ResourcePool refuelTrucks;
+    private final ResourcePool cleaningCrews;
+    private final ResourcePool boardingStaff;
+    private final ExecutorService workers;
+    private final ServiceTimes times;
+    private final EventLog log;
+    private final FlightMetrics metrics;
+
+    public GroundServices(int refuelTrucks, int cleaningCrews, int boardingStaff, ServiceTimes times,
+                          ExecutionMode executionMode, EventLog log, FlightMetrics metrics) {
+        if (refuelTrucks <= 0 || cleaningCrews <= 0 || boardingStaff <= 0) {
+            throw new IllegalArgumentException("Ground resource counts must be positive");
+        }
+        this.refuelTrucks = new ResourcePool(refuelTrucks);
+        this.cleaningCrews = new ResourcePool(cleaningCrews);
+        this.boardingStaff = new ResourcePool(boardingStaff);
+        this.times = times;
+        this.log = log;
+        this.metrics = metrics;
+        this.workers = executionMode.newSharedExecutor("GroundServices");
+    }
+
+    public CompletableFuture<Void> disembark(Airplane plane) {
+        log.record(EventType.DISEMBARKING, plane.getName(), plane.getPassengerCount());
+        return delay(times.disembark(plane.getPassengerCount()));
+    }
+
+    public CompletableFuture<Void> clean(Airplane plane) {
+        return cleaningCrews.acquire()
+                .thenCompose(crew -> {
+                    log.record(EventType.CLEANING_STARTED, plane.getName());
+                    return delay(times.cleaning());
+                })
+                .whenComplete((done, error) -> {
+                    if (error == null) {
+                        log.record(EventType.CLEANING_COMPLETE, plane.getName());
+                    }
+                    cleaningCrews.release();
+                });
+    }
+
+    public CompletableFuture<Void> refuel(Airplane plane) {
+        log.record(EventType.REFUEL_WAITING, plane.getName());
+        long start = System.nanoTime();
+        return refuelTrucks.acquire()
+                .thenCompose(truck -> {
+                    metrics.record(FlightMetrics.Phase.TRUCK_WAIT, plane.isEmergency(), System.nanoTime() - start);
+                    log.record(EventType.REFUEL_STARTED, plane.getName());
+                    return delay(times.refuel());
+                })
+                .whenComplete((done, error) -> {
+                    if (error == null) {
+                        log.record(EventType.REFUEL_COMPLETE, plane.getName());
+                    }
+                    refuelTrucks.release();
+                });
+    }
+
+    // Catering has no crew limit of its own; it only needs the gate.
+    public CompletableFuture<Void> cater(Airplane plane) {
+        log.record(EventType.CATERING_STARTED, plane.getName());
+        return delay(times.catering())
+                .thenRun(() -> log.record(EventType.CATERING_COMPLETE, plane.getName()));
+    }
+
+    // Boarding staff stay with the plane until the door closes.
+    public CompletableFuture<Void> board(Airplane plane) {
+        int passengers = plane.drawDepartingPassengerCount();
+        plane.setDepartingPassengerCount(passengers);
+        return boardingStaff.acquire()
+                .thenCompose(staff -> {
+                    log.record(EventType.BOARDING, plane.getName(), passengers);
+                    return delay(times.boarding(passengers));
+                })
+                .whenComplete((done, error) -> boardingStaff.release());
+    }
+
+    // Completes on a worker once the time has passed; nothing sleeps in the meantime. Zero-length
+    // work still hops to a worker so a chain of hand-offs cannot grow the releasing thread's stack.
+    public CompletableFuture<Void> delay(long millis) {
+        Executor executor = millis > 0
+                ? CompletableFuture.delayedExecutor(millis, TimeUnit.MILLISECONDS, workers)
+                : workers;
+        return CompletableFuture.runAsync(() -> { }, executor);
+    }
+
+    // Abandons any stage still in progress; the workers are gone once this returns true. Waits
+    // through interrupts, which are passed on once it returns.
+    public boolean shutdown(long timeout, TimeUnit unit) {
+        workers.shutdownNow();
+        return UninterruptibleWait.awaitTermination(workers, System.nanoTime() + unit.toNanos(timeout));
+    }
+
+    public Executor getWorkers() {
+        return workers;
+    }
+
+    public int getAvailableRefuelTrucks() {
+        return refuelTrucks.availablePermits();
+    }
+
+    public int getAvailableCleaningCrews() {
+        return cleaningCrews.availablePermits();
+    }
+
+    public int getAvailableBoardingStaff() {
+        return boardingStaff.availablePermits();
+    }
+}
@@ -0,0 +1,93 @@
+package com.mycompany.airportsimulation;
+
+import java.util.Arrays;
+
+// Binary min-heap of int handles keyed by a long rank; equal ranks come out in the order
+// they went in. Parallel primitive arrays, like IntQueue, so waiting flights cost no node.
+final class IntPriorityQueue {
+    private int[] values = new int[16];
+    private long[] ranks = new long[16];
+    private long[] sequences = new long[16];
+    private int size;
+    private long nextSequence;
+
+    void add(int value, long rank) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+            ranks = Arrays.copyOf(ranks, size * 2);
+            sequences = Arrays.copyOf(sequences, size * 2);
+        }
+        int i = size++;
+        long sequence = nextSequence++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!before(rank, sequence, parent)) {
+                break;
+            }
+            move(parent, i);
+            i = parent;
+        }
+        set(i, value, rank, sequence);
+    }
+
+    // -1 when empty.
+    int peek() {
+        return size == 0 ? -1 : values[0];
+    }
+
+    int poll() {
+        if (size == 0) {
+            return -1;
+        }
+        int result = values[0];
+        int last = --size;
+        int value = values[last];
+        long rank = ranks[last];
+        long sequence = sequences[last];
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && before(ranks[child + 1], sequences[child + 1], child)) {
+                child++;
+            }
+            if (!before(ranks[child], sequences[child], rank, sequence)) {
+                break;
+            }
+            move(child, i);
+            i = child;
+        }
+        if (size > 0) {
+            set(i, value, rank, sequence);
+        }
+        return result;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private boolean before(long rank, long sequence, int index) {
+        return before(rank, sequence, ranks[index], sequences[index]);
+    }
+
+    private static boolean before(long rank, long sequence, long otherRank, long otherSequence) {
+        return rank < otherRank || rank == otherRank && sequence < otherSequence;
+    }
+
+    private void move(int from, int to) {
+        set(to, values[from], ranks[from], sequences[from]);
+    }
+
+    private void set(int index, int value, long rank, long sequence) {
+        values[index] = value;
+        ranks[index] = rank;
+        sequences[index] = sequence;
+    }
+}
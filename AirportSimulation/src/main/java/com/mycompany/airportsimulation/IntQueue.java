@@ -0,0 +1,52 @@
+package com.mycompany.airportsimulation;
+
+import java.util.Arrays;
+
+// FIFO of int handles in a growable ring, so queued flights cost four bytes and no node.
+final class IntQueue {
+    private int[] elements = new int[16];
+    private int head;
+    private int size;
+
+    void add(int value) {
+        if (size == elements.length) {
+            int[] grown = new int[elements.length * 2];
+            int tail = elements.length - head;
+            System.arraycopy(elements, head, grown, 0, tail);
+            System.arraycopy(elements, 0, grown, tail, head);
+            elements = grown;
+            head = 0;
+        }
+        elements[(head + size) & (elements.length - 1)] = value;
+        size++;
+    }
+
+    // -1 when empty.
+    int peek() {
+        return size == 0 ? -1 : elements[head];
+    }
+
+    int poll() {
+        if (size == 0) {
+            return -1;
+        }
+        int value = elements[head];
+        head = (head + 1) & (elements.length - 1);
+        size--;
+        return value;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        Arrays.fill(elements, 0);
+        head = 0;
+        size = 0;
+    }
+}
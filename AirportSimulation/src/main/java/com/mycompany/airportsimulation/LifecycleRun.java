@@ -0,0 +1,81 @@
+package com.mycompany.airportsimulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Usage: LifecycleRun [airports] [planesPerAirport] [platform|virtual]
+// Builds, flies and closes many short-lived airports in one process and checks that no
+// threads outlive their airport. Exits non-zero if the live thread count ends up above where
+// it started; otherwise the JVM exits by itself once the last airport is closed.
+public class LifecycleRun {
+
+    public static void main(String[] args) throws InterruptedException {
+        int airportCount = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int planeCount = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        ExecutionMode mode = args.length > 2 ? ExecutionMode.parse(args[2]) : ExecutionMode.fromSystemProperty();
+
+        System.out.println("=== Lifecycle Run: " + airportCount + " airports of " + planeCount + " planes, " + mode
+                + " threads ===");
+        int baseline = liveThreads();
+        long closeNanos = 0;
+        long maxCloseNanos = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < airportCount; i++) {
+            long elapsed = fly(i, planeCount, mode);
+            closeNanos += elapsed;
+            maxCloseNanos = Math.max(maxCloseNanos, elapsed);
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // A thread that has just finished can stay in the thread table briefly; give it a moment.
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (liveThreads() > baseline && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        int after = liveThreads();
+        System.out.println("Airports closed: " + airportCount + " in " + elapsedMillis + " ms");
+        System.out.printf("Close time: mean %d us, max %d us%n", closeNanos / airportCount / 1000,
+                maxCloseNanos / 1000);
+        System.out.println("Live threads: " + baseline + " before, " + after + " after");
+        if (after > baseline) {
+            System.out.println("FAILED: " + (after - baseline) + " thread(s) outlived their airport");
+            System.exit(1);
+        }
+        System.out.println("=== END ===");
+    }
+
+    // Returns how long close() took.
+    private static long fly(int airportId, int planeCount, ExecutionMode mode) throws InterruptedException {
+        Airport airport = new Airport(AirportConfig.builder()
+                .gates(2)
+                .capacity(3)
+                .serviceTimes(ServiceTimes.DEFAULT.scaled(0))
+                .executionMode(mode)
+                .build(), EventLog.silent());
+        List<Airplane> planes = new ArrayList<>(planeCount);
+        for (int i = 1; i <= planeCount; i++) {
+            Airplane plane = new Airplane(airportId + "-" + i, airport, false);
+            plane.start();
+            planes.add(plane);
+        }
+        for (Airplane plane : planes) {
+            plane.join(0);
+        }
+        airport.drain(1, TimeUnit.SECONDS);
+        long start = System.nanoTime();
+        airport.close();
+        return System.nanoTime() - start;
+    }
+
+    // The carriers that run virtual threads belong to the JVM, not to any airport, so they are left out.
+    private static int liveThreads() {
+        int count = 0;
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (!thread.getClass().getSimpleName().equals("CarrierThread")) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
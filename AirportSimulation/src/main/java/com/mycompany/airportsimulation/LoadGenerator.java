@@ -0,0 +1,82 @@
+package com.mycompany.airportsimulation;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+// Builds arrival schedules for either engine. Every random draw comes from one seeded
+// Random, so the same seed and pattern always produce the same arrivals.
+public class LoadGenerator {
+    public static final String SEED_PROPERTY = "airport.seed";
+
+    public record Arrival(long atMillis, String id, boolean emergency) {
+    }
+
+    private final Random rand;
+    private int nextId = 1;
+
+    public LoadGenerator(long seed) {
+        this.rand = new Random(seed);
+    }
+
+    public static LoadGenerator fromSystemProperty() {
+        return new LoadGenerator(Long.getLong(SEED_PROPERTY, 42L));
+    }
+
+    // Exponential gaps between arrivals give a Poisson process at the given hourly rate.
+    public List<Arrival> poisson(double arrivalsPerHour, long durationMillis, double emergencyPercent) {
+        List<Arrival> arrivals = new ArrayList<>();
+        double meanGapMillis = 3_600_000 / arrivalsPerHour;
+        long time = 0;
+        while (true) {
+            time += (long) (-Math.log(1 - rand.nextDouble()) * meanGapMillis);
+            if (time >= durationMillis) {
+                return arrivals;
+            }
+            arrivals.add(next(time, emergencyPercent));
+        }
+    }
+
+    // A wave of planes every interval, spaced evenly within the wave, as at a hub bank.
+    public List<Arrival> bursts(int planesPerBurst, long intervalMillis, long spacingMillis,
+                                long durationMillis, double emergencyPercent) {
+        List<Arrival> arrivals = new ArrayList<>();
+        for (long start = 0; start < durationMillis; start += intervalMillis) {
+            for (int i = 0; i < planesPerBurst; i++) {
+                arrivals.add(next(start + i * spacingMillis, emergencyPercent));
+            }
+        }
+        return arrivals;
+    }
+
+    // One arrival per line: "<atMillis> [emergency]". Blank lines and # comments are skipped;
+    // lines may be in any order.
+    public List<Arrival> schedule(Path file) throws IOException {
+        List<Arrival> arrivals = new ArrayList<>();
+        for (String line : Files.readAllLines(file)) {
+            int comment = line.indexOf('#');
+            String text = (comment >= 0 ? line.substring(0, comment) : line).trim();
+            if (text.isEmpty()) {
+                continue;
+            }
+            String[] fields = text.split("\\s+");
+            boolean emergency = fields.length > 1 && fields[1].equalsIgnoreCase("emergency");
+            arrivals.add(new Arrival(Long.parseLong(fields[0]), null, emergency));
+        }
+        arrivals.sort(Comparator.comparingLong(Arrival::atMillis));
+        List<Arrival> numbered = new ArrayList<>(arrivals.size());
+        for (Arrival arrival : arrivals) {
+            numbered.add(new Arrival(arrival.atMillis(), String.valueOf(nextId++), arrival.emergency()));
+        }
+        return numbered;
+    }
+
+    private Arrival next(long atMillis, double emergencyPercent) {
+        boolean emergency = rand.nextDouble() * 100 < emergencyPercent;
+        return new Arrival(atMillis, String.valueOf(nextId++), emergency);
+    }
+}
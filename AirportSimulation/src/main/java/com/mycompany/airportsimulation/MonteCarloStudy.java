@@ -0,0 +1,115 @@
+package com.mycompany.airportsimulation;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+// Usage: MonteCarloStudy [runs] [hours] [arrivalsPerHour] [emergencyPercent] [parallelism] [seed]
+// Runs independent replications of a Poisson-arrival day on the discrete-event engine, each
+// with its own airport, metrics and seed (seed + run number), spread over a fork-join pool.
+// The airport comes from -Dairport.config as in ScenarioRun.
+public class MonteCarloStudy {
+
+    public record Replication(long seed, int flights, double meanWaitMillis, long maxWaitMillis,
+                              double flightsPerHour, double gateUtilisation) {
+    }
+
+    // Mean with a normal-approximation 95% confidence interval across replications.
+    public record Estimate(double mean, double halfWidth, double min, double max) {
+        static Estimate of(double[] samples) {
+            double sum = 0;
+            double min = Double.MAX_VALUE;
+            double max = -Double.MAX_VALUE;
+            for (double sample : samples) {
+                sum += sample;
+                min = Math.min(min, sample);
+                max = Math.max(max, sample);
+            }
+            double mean = sum / samples.length;
+            double squares = 0;
+            for (double sample : samples) {
+                squares += (sample - mean) * (sample - mean);
+            }
+            double stdDev = samples.length > 1 ? Math.sqrt(squares / (samples.length - 1)) : 0;
+            return new Estimate(mean, 1.96 * stdDev / Math.sqrt(samples.length), min, max);
+        }
+    }
+
+    private final AirportConfig config;
+    private final long durationMillis;
+    private final double arrivalsPerHour;
+    private final double emergencyPercent;
+
+    public MonteCarloStudy(AirportConfig config, long durationMillis, double arrivalsPerHour, double emergencyPercent) {
+        this.config = config;
+        this.durationMillis = durationMillis;
+        this.arrivalsPerHour = arrivalsPerHour;
+        this.emergencyPercent = emergencyPercent;
+    }
+
+    public Replication replicate(long seed) {
+        DiscreteEventAirport airport = new DiscreteEventAirport(config, seed, false);
+        for (LoadGenerator.Arrival arrival : new LoadGenerator(seed).poisson(arrivalsPerHour, durationMillis,
+                emergencyPercent)) {
+            airport.scheduleArrival(arrival.id(), arrival.emergency(), arrival.atMillis());
+        }
+        airport.run();
+
+        long totalWait = 0;
+        long maxWait = 0;
+        int completed = 0;
+        FlightStore flights = airport.getFlights();
+        for (int flight = 0; flight < flights.size(); flight++) {
+            if (flights.isCompleted(flight)) {
+                completed++;
+                totalWait += flights.getWaitingTime(flight);
+                maxWait = Math.max(maxWait, flights.getWaitingTime(flight));
+            }
+        }
+        double hours = Math.max(airport.now(), 1) / 3_600_000.0;
+        double utilisation = (double) airport.getGateBusyMillis() / ((double) airport.getGateCount() * Math.max(airport.now(), 1));
+        return new Replication(seed, completed, completed == 0 ? 0 : (double) totalWait / completed, maxWait,
+                completed / hours, utilisation);
+    }
+
+    public List<Replication> run(int runs, long baseSeed, ForkJoinPool pool)
+            throws InterruptedException, ExecutionException {
+        return pool.submit(() -> IntStream.range(0, runs)
+                .parallel()
+                .mapToObj(i -> replicate(baseSeed + i))
+                .toList()).get();
+    }
+
+    public static void main(String[] args) throws Exception {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+        int hours = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        double arrivalsPerHour = args.length > 2 ? Double.parseDouble(args[2]) : 150;
+        double emergencyPercent = args.length > 3 ? Double.parseDouble(args[3]) : 2;
+        int parallelism = args.length > 4 ? Integer.parseInt(args[4]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 5 ? Long.parseLong(args[5]) : 42L;
+
+        MonteCarloStudy study = new MonteCarloStudy(AirportConfig.fromSystemProperty(), hours * 3_600_000L,
+                arrivalsPerHour, emergencyPercent);
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        long start = System.nanoTime();
+        List<Replication> results = study.run(runs, seed, pool);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        pool.shutdown();
+
+        System.out.println("=== Monte Carlo Study: " + runs + " runs of " + hours + "h at " + arrivalsPerHour
+                + " arrivals/h, parallelism " + parallelism + ", seeds " + seed + ".." + (seed + runs - 1) + " ===");
+        System.out.printf("%-26s %12s %12s %12s %12s%n", "Metric", "Mean", "95% CI +/-", "Min", "Max");
+        print("Average wait (ms)", Estimate.of(results.stream().mapToDouble(Replication::meanWaitMillis).toArray()));
+        print("Maximum wait (ms)", Estimate.of(results.stream().mapToDouble(Replication::maxWaitMillis).toArray()));
+        print("Throughput (flights/h)", Estimate.of(results.stream().mapToDouble(Replication::flightsPerHour).toArray()));
+        print("Gate utilisation (%)", Estimate.of(results.stream().mapToDouble(r -> r.gateUtilisation() * 100).toArray()));
+        System.out.println("Wall-clock time: " + elapsedMillis + " ms");
+        System.out.println("=== END ===");
+    }
+
+    private static void print(String label, Estimate estimate) {
+        System.out.printf("%-26s %12.2f %12.2f %12.2f %12.2f%n", label, estimate.mean(), estimate.halfWidth(),
+                estimate.min(), estimate.max());
+    }
+}
@@ -0,0 +1,31 @@
+package com.mycompany.airportsimulation;
+
+// Counts events in one-second buckets over the last minute, for rates that follow the load
+// instead of averaging over the whole run.
+final class MovingRate {
+    private static final int WINDOW_SECONDS = 60;
+
+    private final long[] counts = new long[WINDOW_SECONDS];
+    private final long[] seconds = new long[WINDOW_SECONDS];
+
+    synchronized void record(long nowMillis) {
+        long second = nowMillis / 1000;
+        int bucket = (int) (second % WINDOW_SECONDS);
+        if (seconds[bucket] != second) {
+            seconds[bucket] = second;
+            counts[bucket] = 0;
+        }
+        counts[bucket]++;
+    }
+
+    synchronized long lastMinute(long nowMillis) {
+        long second = nowMillis / 1000;
+        long total = 0;
+        for (int i = 0; i < WINDOW_SECONDS; i++) {
+            if (second - seconds[i] < WINDOW_SECONDS) {
+                total += counts[i];
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,32 @@
+package com.mycompany.airportsimulation;
+
+// Usage: NetworkSimulation [airports] [partitions] [hours] [planesPerAirport] [seed]
+// Every airport uses the -Dairport.config topology (three gates by default); flights between
+// airports take 30 to 120 simulated minutes.
+public class NetworkSimulation {
+
+    public static void main(String[] args) throws Exception {
+        int airportCount = args.length > 0 ? Integer.parseInt(args[0]) : 64;
+        int partitionCount = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        int hours = args.length > 2 ? Integer.parseInt(args[2]) : 24;
+        int planesPerAirport = args.length > 3 ? Integer.parseInt(args[3]) : 6;
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : 42L;
+
+        AirportNetwork network = new AirportNetwork(airportCount, partitionCount, AirportConfig.fromSystemProperty(),
+                30 * 60_000L, 120 * 60_000L, seed);
+        network.seedFlights(planesPerAirport, 1);
+
+        long start = System.nanoTime();
+        network.run(hours * 3_600_000L);
+        long elapsedNanos = System.nanoTime() - start;
+
+        System.out.println("=== Network Simulation: " + airportCount + " airports, " + network.getPartitionCount()
+                + " partitions, " + hours + "h, seed " + seed + " ===");
+        System.out.println("Flights completed: " + network.getFlightsCompleted());
+        System.out.println("Flights between airports: " + network.getTransfers());
+        System.out.println("Events processed: " + network.getProcessedEvents());
+        System.out.println("Wall-clock time: " + elapsedNanos / 1_000_000 + " ms, "
+                + (long) (network.getProcessedEvents() / (elapsedNanos / 1e9)) + " events/s");
+        System.out.println("=== END ===");
+    }
+}
@@ -0,0 +1,132 @@
+package com.mycompany.airportsimulation;
+
+import java.util.Arrays;
+
+// Passengers for the discrete-event engine, one primitive column per field, grouped in
+// batches of a fixed number of rows: one batch per planeload while it streams on or off. Freed
+// batches are handed out again, so after the busiest moment of a run no more are created
+// however many passengers pass through.
+final class PassengerBatches {
+    static final byte TERMINATING = -1;
+    private static final int INITIAL_BATCHES = 16;
+
+    private final int rows;
+    private final IntQueue free = new IntQueue();
+    private int batches;
+    private int[] sizes = new int[INITIAL_BATCHES];
+    private byte[] bags;
+    private byte[] groups;
+    // Where the passenger flies on to, or TERMINATING when the journey ends here.
+    private byte[] destinations;
+
+    // Scratch columns for sortByGroup; groupStarts has a slot per group plus one.
+    private final byte[] sortedBags;
+    private final byte[] sortedGroups;
+    private final byte[] sortedDestinations;
+    private final int[] groupStarts;
+
+    PassengerBatches(int rows, int groupCount) {
+        this.rows = rows;
+        this.bags = new byte[INITIAL_BATCHES * rows];
+        this.groups = new byte[INITIAL_BATCHES * rows];
+        this.destinations = new byte[INITIAL_BATCHES * rows];
+        this.sortedBags = new byte[rows];
+        this.sortedGroups = new byte[rows];
+        this.sortedDestinations = new byte[rows];
+        this.groupStarts = new int[groupCount + 1];
+    }
+
+    int allocate() {
+        int batch = free.poll();
+        if (batch == -1) {
+            if (batches == sizes.length) {
+                grow();
+            }
+            batch = batches++;
+        }
+        sizes[batch] = 0;
+        return batch;
+    }
+
+    void release(int batch) {
+        free.add(batch);
+    }
+
+    // False when the batch is full.
+    boolean add(int batch, int bagCount, int group, int destination) {
+        int size = sizes[batch];
+        if (size == rows) {
+            return false;
+        }
+        int row = batch * rows + size;
+        bags[row] = (byte) bagCount;
+        groups[row] = (byte) group;
+        destinations[row] = (byte) destination;
+        sizes[batch] = size + 1;
+        return true;
+    }
+
+    int size(int batch) {
+        return sizes[batch];
+    }
+
+    int bags(int batch, int index) {
+        return bags[batch * rows + index];
+    }
+
+    int group(int batch, int index) {
+        return groups[batch * rows + index];
+    }
+
+    int destination(int batch, int index) {
+        return destinations[batch * rows + index];
+    }
+
+    int totalBags(int batch) {
+        int total = 0;
+        for (int row = batch * rows, end = row + sizes[batch]; row < end; row++) {
+            total += bags[row];
+        }
+        return total;
+    }
+
+    // Stable counting sort on the boarding group, so the batch streams in the order groups are called.
+    void sortByGroup(int batch) {
+        int base = batch * rows;
+        int size = sizes[batch];
+        Arrays.fill(groupStarts, 0);
+        for (int i = 0; i < size; i++) {
+            groupStarts[groups[base + i] + 1]++;
+        }
+        for (int g = 1; g < groupStarts.length; g++) {
+            groupStarts[g] += groupStarts[g - 1];
+        }
+        for (int i = 0; i < size; i++) {
+            int to = groupStarts[groups[base + i]]++;
+            sortedBags[to] = bags[base + i];
+            sortedGroups[to] = groups[base + i];
+            sortedDestinations[to] = destinations[base + i];
+        }
+        System.arraycopy(sortedBags, 0, bags, base, size);
+        System.arraycopy(sortedGroups, 0, groups, base, size);
+        System.arraycopy(sortedDestinations, 0, destinations, base, size);
+    }
+
+    // Drops the rows from size onwards.
+    void truncate(int batch, int size) {
+        sizes[batch] = Math.min(sizes[batch], size);
+    }
+
+    // Batches ever created: the most planeloads disembarking or boarding at once.
+    int getBatchCount() {
+        return batches;
+    }
+
+    private void grow() {
+        int capacity = sizes.length * 2;
+        sizes = Arrays.copyOf(sizes, capacity);
+        bags = Arrays.copyOf(bags, capacity * rows);
+        groups = Arrays.copyOf(groups, capacity * rows);
+        destinations = Arrays.copyOf(destinations, capacity * rows);
+    }
+}
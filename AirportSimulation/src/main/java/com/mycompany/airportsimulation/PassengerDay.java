@@ -0,0 +1,70 @@
+package com.mycompany.airportsimulation;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Locale;
+
+// Usage: PassengerDay [hours] [arrivalsPerHour] [emergencyPercent] [seed]
+// Runs Poisson arrivals on the discrete-event engine and reports the passenger flow:
+// journeys ending here, connections made and missed, bumped passengers and bags, plus how
+// much of the wall-clock time went to garbage collection. The airport comes from
+// -Dairport.config; scenarios/passenger-hub.properties carries tens of millions of
+// passengers a day at about 16000 arrivals an hour.
+public class PassengerDay {
+
+    public static void main(String[] args) throws IOException {
+        double hours = args.length > 0 ? Double.parseDouble(args[0]) : 24;
+        double arrivalsPerHour = args.length > 1 ? Double.parseDouble(args[1]) : 180;
+        double emergencyPercent = args.length > 2 ? Double.parseDouble(args[2]) : 1;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : 42L;
+
+        AirportConfig config = AirportConfig.fromSystemProperty();
+        DiscreteEventAirport airport = new DiscreteEventAirport(config, seed, false);
+        List<LoadGenerator.Arrival> arrivals = new LoadGenerator(seed)
+                .poisson(arrivalsPerHour, (long) (hours * 3_600_000), emergencyPercent);
+        for (LoadGenerator.Arrival arrival : arrivals) {
+            airport.scheduleArrival(arrival.id(), arrival.emergency(), arrival.atMillis());
+        }
+
+        long gcBefore = gcMillis();
+        long start = System.nanoTime();
+        airport.run();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        long gcMillis = gcMillis() - gcBefore;
+
+        PassengerFlow passengers = airport.getPassengers();
+        long handled = passengers.getArrived() + passengers.getBoarded();
+        System.out.println("=== Passenger Day: " + arrivals.size() + " arrivals over " + hours + "h, "
+                + config.getGates() + " gates, " + config.getRunwaySpecs().size() + " runway(s), seed " + seed + " ===");
+        System.out.println("Flights completed: " + airport.getMetrics().getFlightsCompleted()
+                + ", simulated time " + airport.now() / 1000 + " s");
+        System.out.println("Passengers handled (arrived + boarded): " + handled);
+        System.out.println("Arrived: " + passengers.getArrived() + ", journey ended here: "
+                + passengers.getTerminated());
+        System.out.println("Connections made: " + passengers.getConnectionsMade() + ", missed: "
+                + passengers.getConnectionsMissed() + ", still in the lounge: " + passengers.getInLounge());
+        System.out.println("Boarded: " + passengers.getBoarded() + ", bumped: " + passengers.getBumped());
+        System.out.println("Bags handled: " + passengers.getBagsHandled());
+        LatencyHistogram.Snapshot connection = airport.getMetrics().snapshot(FlightMetrics.Phase.CONNECTION, false);
+        if (connection.getCount() > 0) {
+            System.out.printf(Locale.ROOT, "Connection time: p50 %d ms, p99 %d ms%n",
+                    connection.percentile(50) / 1_000_000, connection.percentile(99) / 1_000_000);
+        }
+        System.out.println("Passenger batches: " + passengers.getPeakBatches() + " (most planeloads streaming at once)");
+        System.out.println("Wall-clock time: " + elapsedMillis + " ms, "
+                + (long) (handled / Math.max(elapsedMillis / 1000.0, 0.001)) + " passengers/s");
+        System.out.printf(Locale.ROOT, "GC time: %d ms (%.1f%% of the run)%n", gcMillis,
+                100.0 * gcMillis / Math.max(elapsedMillis, 1));
+        System.out.println("=== END ===");
+    }
+
+    private static long gcMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, collector.getCollectionTime());
+        }
+        return total;
+    }
+}
@@ -0,0 +1,206 @@
+package com.mycompany.airportsimulation;
+
+import java.util.Arrays;
+
+// Individual passengers for the discrete-event engine. An arriving planeload becomes a batch
+// of passengers, each with bags and either a destination to fly on to or none, and streams
+// off at the gate: passengers whose journey ends here leave, connecting ones move to the
+// transfer lounge. Each departing flight serves one destination. It boards the connecting
+// passengers waiting for it first, then its own local passengers by boarding group, and
+// bumps whoever is past the last seat. Lounge passengers who wait longer than the maximum
+// connection time miss their flight. All state is in primitive columns; nothing is
+// allocated per passenger.
+public class PassengerFlow {
+    // Connecting passengers are called before every local group.
+    private static final int CONNECTING_GROUP = 0;
+
+    private final FlightStore flights;
+    private final ServiceTimes times;
+    private final FlightMetrics metrics;
+    private final PassengerBatches batches;
+    private final int seats;
+    private final int boardingGroups;
+    private final int maxBags;
+    private final int connectPercent;
+    private final int destinations;
+    private final long minConnectMillis;
+    private final long maxConnectMillis;
+
+    // One FIFO ring per destination of lounge passengers, each packed as readyAt << 8 | bags.
+    // Passengers join at the end of their disembarking, so every ring is in readyAt order.
+    private final long[][] lounge;
+    private final int[] loungeHeads;
+    private final int[] loungeSizes;
+
+    private long arrived;
+    private long terminated;
+    private long connectionsMade;
+    private long connectionsMissed;
+    private long boarded;
+    private long bumped;
+    private long bagsHandled;
+
+    PassengerFlow(AirportConfig config, FlightStore flights, FlightMetrics metrics) {
+        this.flights = flights;
+        this.times = config.getServiceTimes();
+        this.metrics = metrics;
+        this.seats = config.getSeats();
+        this.boardingGroups = config.getBoardingGroups();
+        this.maxBags = config.getMaxBags();
+        this.connectPercent = config.getConnectPercent();
+        this.destinations = config.getDestinations();
+        this.minConnectMillis = times.scale(config.getMinConnectMillis());
+        this.maxConnectMillis = times.scale(config.getMaxConnectMillis());
+        // Twice the seats: a departing flight can be overbooked up to that before bumping.
+        this.batches = new PassengerBatches(2 * seats, boardingGroups + 1);
+        this.lounge = new long[destinations][16];
+        this.loungeHeads = new int[destinations];
+        this.loungeSizes = new int[destinations];
+    }
+
+    // Builds the flight's arriving batch from its passenger count.
+    int arrive(int flight) {
+        int batch = batches.allocate();
+        int count = flights.getPassengerCount(flight);
+        for (int i = 0; i < count; i++) {
+            int bags = flights.drawPassengerInt(flight, maxBags + 1);
+            int destination = connectPercent > 0 && flights.drawPassengerInt(flight, 100) < connectPercent
+                    ? flights.drawPassengerInt(flight, destinations)
+                    : PassengerBatches.TERMINATING;
+            batches.add(batch, bags, 0, destination);
+        }
+        arrived += count;
+        return batch;
+    }
+
+    // The cabin and the hold empty at the same time.
+    long disembarkMillis(int batch) {
+        return Math.max(times.disembark(batches.size(batch)), times.bags(batches.totalBags(batch)));
+    }
+
+    // Called once the batch is off the plane.
+    void disembark(int batch, long now) {
+        long readyAt = now + minConnectMillis;
+        for (int i = 0, size = batches.size(batch); i < size; i++) {
+            int bags = batches.bags(batch, i);
+            int destination = batches.destination(batch, i);
+            bagsHandled += bags;
+            if (destination == PassengerBatches.TERMINATING) {
+                terminated++;
+            } else {
+                loungeAdd(destination, readyAt << 8 | bags);
+            }
+        }
+        batches.release(batch);
+    }
+
+    // Builds the flight's departing batch in boarding order and records its final passenger count.
+    int board(int flight, long now) {
+        int batch = batches.allocate();
+        int destination = flights.drawPassengerInt(flight, destinations);
+        while (loungeSizes[destination] > 0 && batches.size(batch) < seats) {
+            long passenger = lounge[destination][loungeHeads[destination]];
+            long readyAt = passenger >>> 8;
+            long reachedLounge = readyAt - minConnectMillis;
+            if (now - reachedLounge > maxConnectMillis) {
+                loungePoll(destination);
+                connectionsMissed++;
+                continue;
+            }
+            if (readyAt > now) {
+                break;
+            }
+            loungePoll(destination);
+            batches.add(batch, (int) (passenger & 0xFF), CONNECTING_GROUP, destination);
+            metrics.record(FlightMetrics.Phase.CONNECTION, false, (now - reachedLounge) * 1_000_000);
+            connectionsMade++;
+        }
+        int local = flights.drawDepartingPassengerCount(flight);
+        for (int i = 0; i < local; i++) {
+            int bags = flights.drawPassengerInt(flight, maxBags + 1);
+            int group = 1 + flights.drawPassengerInt(flight, boardingGroups);
+            if (!batches.add(batch, bags, group, destination)) {
+                bumped++;
+            }
+        }
+        batches.sortByGroup(batch);
+        int booked = batches.size(batch);
+        if (booked > seats) {
+            bumped += booked - seats;
+            batches.truncate(batch, seats);
+        }
+        boarded += batches.size(batch);
+        flights.setDepartingPassengerCount(flight, batches.size(batch));
+        return batch;
+    }
+
+    long boardingMillis(int batch) {
+        return Math.max(times.boarding(batches.size(batch)), times.bags(batches.totalBags(batch)));
+    }
+
+    // Called once the batch is on board.
+    void depart(int batch) {
+        bagsHandled += batches.totalBags(batch);
+        batches.release(batch);
+    }
+
+    private void loungeAdd(int destination, long passenger) {
+        long[] ring = lounge[destination];
+        int size = loungeSizes[destination];
+        if (size == ring.length) {
+            int head = loungeHeads[destination];
+            long[] grown = new long[ring.length * 2];
+            System.arraycopy(ring, head, grown, 0, ring.length - head);
+            System.arraycopy(ring, 0, grown, ring.length - head, head);
+            lounge[destination] = ring = grown;
+            loungeHeads[destination] = 0;
+        }
+        ring[(loungeHeads[destination] + size) & (ring.length - 1)] = passenger;
+        loungeSizes[destination] = size + 1;
+    }
+
+    private void loungePoll(int destination) {
+        loungeHeads[destination] = (loungeHeads[destination] + 1) & (lounge[destination].length - 1);
+        loungeSizes[destination]--;
+    }
+
+    public long getArrived() {
+        return arrived;
+    }
+
+    // Arriving passengers whose journey ended here.
+    public long getTerminated() {
+        return terminated;
+    }
+
+    public long getConnectionsMade() {
+        return connectionsMade;
+    }
+
+    // Counted when a flight for their destination boards after their connection time ran out.
+    public long getConnectionsMissed() {
+        return connectionsMissed;
+    }
+
+    // Connecting passengers still waiting, including any whose time has run out unnoticed.
+    public long getInLounge() {
+        return Arrays.stream(loungeSizes).asLongStream().sum();
+    }
+
+    public long getBoarded() {
+        return boarded;
+    }
+
+    public long getBumped() {
+        return bumped;
+    }
+
+    // Unloaded and loaded, so a connecting passenger's bags count twice.
+    public long getBagsHandled() {
+        return bagsHandled;
+    }
+
+    public int getPeakBatches() {
+        return batches.getBatchCount();
+    }
+}
@@ -0,0 +1,79 @@
+package com.mycompany.airportsimulation;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+
+// Usage: PolicyComparison [hours] [arrivalsPerHour] [emergencyPercent] [seed]
+// Runs the same Poisson arrivals through the discrete-event engine under every pairing of
+// runway sequencing policy and gate policy, and prints throughput and wait percentiles side
+// by side. The airport comes from -Dairport.config; sequencing and gatePolicy are overridden
+// per run. Give the config a standTaxiMillis for the stand choice to show up in the waits.
+public class PolicyComparison {
+
+    public static void main(String[] args) throws IOException {
+        double hours = args.length > 0 ? Double.parseDouble(args[0]) : 8;
+        double arrivalsPerHour = args.length > 1 ? Double.parseDouble(args[1]) : 900;
+        double emergencyPercent = args.length > 2 ? Double.parseDouble(args[2]) : 2;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : 42L;
+
+        Properties base = new Properties();
+        String file = System.getProperty(AirportConfig.PROPERTY);
+        if (file != null) {
+            try (Reader reader = Files.newBufferedReader(Path.of(file))) {
+                base.load(reader);
+            }
+        }
+        List<LoadGenerator.Arrival> arrivals = new LoadGenerator(seed)
+                .poisson(arrivalsPerHour, (long) (hours * 3_600_000), emergencyPercent);
+
+        System.out.println("=== Policy Comparison: " + arrivals.size() + " arrivals over " + hours + "h, "
+                + emergencyPercent + "% emergencies, seed " + seed + " ===");
+        System.out.printf(Locale.ROOT, "%-9s %-19s %8s %9s %10s %10s %10s %10s %10s %10s%n", "Runway", "Gates",
+                "Flights", "Flights/h", "Wait p50", "Wait p99", "Wait p99.9", "Gate p99", "Emerg p99", "Gate use%");
+        for (RunwaySequencer.Policy sequencing : RunwaySequencer.Policy.values()) {
+            for (GateAllocator.Policy gatePolicy : GateAllocator.Policy.values()) {
+                Properties properties = new Properties();
+                properties.putAll(base);
+                properties.setProperty("sequencing", sequencing.name());
+                properties.setProperty("gatePolicy", gatePolicy.name());
+                properties.setProperty("seed", String.valueOf(seed));
+                AirportConfig config = AirportConfig.fromProperties(properties);
+
+                DiscreteEventAirport airport = new DiscreteEventAirport(config, seed, false);
+                for (LoadGenerator.Arrival arrival : arrivals) {
+                    airport.scheduleArrival(arrival.id(), arrival.emergency(), arrival.atMillis());
+                }
+                airport.run();
+
+                // Flight waits run from the landing request to the gate, as in printStatistics.
+                LatencyHistogram waits = new LatencyHistogram();
+                for (long wait : airport.getFlights().getCompletedWaitingTimes()) {
+                    waits.record(wait);
+                }
+                LatencyHistogram.Snapshot wait = waits.snapshot();
+                FlightMetrics metrics = airport.getMetrics();
+                long flights = metrics.getFlightsCompleted();
+                System.out.printf(Locale.ROOT, "%-9s %-19s %8d %9.1f %10d %10d %10d %10.0f %10.0f %10.1f%n",
+                        sequencing.name().toLowerCase(Locale.ROOT), gatePolicy.name().toLowerCase(Locale.ROOT),
+                        flights, flights / (Math.max(airport.now(), 1) / 3_600_000.0),
+                        wait.percentile(50), wait.percentile(99), wait.percentile(99.9),
+                        millis(metrics.snapshot(FlightMetrics.Phase.GATE_WAIT, false).percentile(99)),
+                        millis(metrics.snapshot(FlightMetrics.Phase.GATE_WAIT, true).percentile(99)),
+                        100.0 * airport.getGateBusyMillis()
+                                / ((double) airport.getGateCount() * Math.max(airport.now(), 1)));
+            }
+        }
+        System.out.println("(waits in ms; gate waits for normal traffic and emergencies; gate use counts the taxi"
+                + " to the stand)");
+        System.out.println("=== END ===");
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,62 @@
+package com.mycompany.airportsimulation;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Counting pool that hands out permits as futures, first come first served, instead of
+// blocking the caller the way a fair Semaphore does. A release passes the permit straight
+// to the oldest waiter and runs its continuation on the releasing thread.
+public class ResourcePool {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Queue<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+    private int available;
+
+    public ResourcePool(int permits) {
+        if (permits <= 0) {
+            throw new IllegalArgumentException("Resource pool needs at least one permit");
+        }
+        this.available = permits;
+    }
+
+    public CompletableFuture<Void> acquire() {
+        lock.lock();
+        try {
+            if (available > 0) {
+                available--;
+                return CompletableFuture.completedFuture(null);
+            }
+            CompletableFuture<Void> waiter = new CompletableFuture<>();
+            waiters.add(waiter);
+            return waiter;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void release() {
+        CompletableFuture<Void> next;
+        lock.lock();
+        try {
+            next = waiters.poll();
+            if (next == null) {
+                available++;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (next != null) {
+            next.complete(null);
+        }
+    }
+
+    public int availablePermits() {
+        lock.lock();
+        try {
+            return available;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
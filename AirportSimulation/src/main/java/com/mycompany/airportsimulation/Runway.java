@@ -0,0 +1,46 @@
+package com.mycompany.airportsimulation;
+
+public final class Runway {
+    private final int id;
+    private final RunwayMode mode;
+    private final long landingMillis;
+    private final long takeoffMillis;
+    private final long changeoverMillis;
+
+    public Runway(int id, RunwayMode mode, long landingMillis, long takeoffMillis) {
+        this(id, mode, landingMillis, takeoffMillis, 0);
+    }
+
+    // Changeover is the extra separation a movement needs when the previous one went the other way.
+    public Runway(int id, RunwayMode mode, long landingMillis, long takeoffMillis, long changeoverMillis) {
+        this.id = id;
+        this.mode = mode;
+        this.landingMillis = landingMillis;
+        this.takeoffMillis = takeoffMillis;
+        this.changeoverMillis = changeoverMillis;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return "Runway-" + id;
+    }
+
+    public RunwayMode getMode() {
+        return mode;
+    }
+
+    public long getLandingMillis() {
+        return landingMillis;
+    }
+
+    public long getTakeoffMillis() {
+        return takeoffMillis;
+    }
+
+    public long getChangeoverMillis() {
+        return changeoverMillis;
+    }
+}
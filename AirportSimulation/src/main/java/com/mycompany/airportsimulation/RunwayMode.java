@@ -0,0 +1,15 @@
+package com.mycompany.airportsimulation;
+
+public enum RunwayMode {
+    MIXED,
+    ARRIVALS,
+    DEPARTURES;
+
+    public boolean acceptsArrivals() {
+        return this != DEPARTURES;
+    }
+
+    public boolean acceptsDepartures() {
+        return this != ARRIVALS;
+    }
+}
@@ -0,0 +1,14 @@
+package com.mycompany.airportsimulation;
+
+// Decides which movement gets a free runway when more than one is waiting for it. The
+// sequencer has already picked the runway and only asks when there is a choice to make;
+// the built-in policies are RunwaySequencer.Policy, and config.sequencing takes any other.
+public interface RunwayPolicy {
+
+    // Each time is when the head of that queue asked for the runway, or -1 when nothing in
+    // the queue can use this runway. At least one is set; the answer must be one that is.
+    // A policy that lets a takeoff jump waiting landings because it has waited too long
+    // reports it through sequencer.countAgedTakeoff(), so getAgedTakeoffs() covers it.
+    RunwaySequencer.Movement choose(RunwaySequencer sequencer, Runway runway, long emergencySince,
+                                    long landingSince, long takeoffSince, long now);
+}
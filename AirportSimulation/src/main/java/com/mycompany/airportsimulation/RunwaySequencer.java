@@ -0,0 +1,190 @@
+package com.mycompany.airportsimulation;
+
+import java.util.Locale;
+import java.util.function.IntPredicate;
+
+// Picks the next runway movement for ATC and DiscreteEventAirport; callers hold their own lock.
+// The sequencer finds the free runway and keeps its direction history; which of the movements
+// waiting for it goes first is up to a RunwayPolicy. FCFS serves the longest-waiting request.
+// PRIORITY is the original rule: emergencies, then landings, then takeoffs. BATCHED keeps a
+// mixed runway in one direction for up to maxBatch movements before turning it round, so
+// fewer movements pay the changeover, and lets a takeoff that has waited takeoffMaxWait go
+// next. Emergencies go first under every policy but FCFS.
+public final class RunwaySequencer {
+
+    public enum Policy implements RunwayPolicy {
+        FCFS {
+            @Override
+            public Movement choose(RunwaySequencer sequencer, Runway runway, long emergencySince,
+                                   long landingSince, long takeoffSince, long now) {
+                Movement oldest = Movement.EMERGENCY_LANDING;
+                long oldestSince = emergencySince;
+                if (landingSince >= 0 && (oldestSince < 0 || landingSince < oldestSince)) {
+                    oldest = Movement.LANDING;
+                    oldestSince = landingSince;
+                }
+                if (takeoffSince >= 0 && (oldestSince < 0 || takeoffSince < oldestSince)) {
+                    oldest = Movement.TAKEOFF;
+                }
+                return oldest;
+            }
+        },
+        PRIORITY {
+            @Override
+            public Movement choose(RunwaySequencer sequencer, Runway runway, long emergencySince,
+                                   long landingSince, long takeoffSince, long now) {
+                if (emergencySince >= 0) {
+                    return Movement.EMERGENCY_LANDING;
+                }
+                return landingSince >= 0 ? Movement.LANDING : Movement.TAKEOFF;
+            }
+        },
+        BATCHED {
+            @Override
+            public Movement choose(RunwaySequencer sequencer, Runway runway, long emergencySince,
+                                   long landingSince, long takeoffSince, long now) {
+                if (emergencySince >= 0) {
+                    return Movement.EMERGENCY_LANDING;
+                }
+                if (landingSince < 0 || takeoffSince < 0) {
+                    return landingSince >= 0 ? Movement.LANDING : Movement.TAKEOFF;
+                }
+                if (now - takeoffSince >= sequencer.getTakeoffMaxWaitMillis()) {
+                    sequencer.countAgedTakeoff();
+                    return Movement.TAKEOFF;
+                }
+                boolean landing = sequencer.isFacingLandings(runway);
+                if (sequencer.getStreak(runway) >= sequencer.getMaxBatch()) {
+                    landing = !landing;
+                }
+                return landing ? Movement.LANDING : Movement.TAKEOFF;
+            }
+        };
+
+        public static Policy parse(String value) {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    public enum Movement {
+        EMERGENCY_LANDING,
+        LANDING,
+        TAKEOFF
+    }
+
+    public record Grant(Movement movement, Runway runway) {
+    }
+
+    private final Runway[] runways;
+    private final RunwayPolicy policy;
+    private final int maxBatch;
+    private final long takeoffMaxWaitMillis;
+    private final boolean[] used;
+    private final boolean[] lastWasLanding;
+    private final int[] streak;
+    private long changeovers;
+    private long agedTakeoffs;
+
+    public RunwaySequencer(Runway[] runways, RunwayPolicy policy, int maxBatch, long takeoffMaxWaitMillis) {
+        if (maxBatch <= 0) {
+            throw new IllegalArgumentException("Runway batch must be positive");
+        }
+        this.runways = runways;
+        this.policy = policy;
+        this.maxBatch = maxBatch;
+        this.takeoffMaxWaitMillis = takeoffMaxWaitMillis;
+        this.used = new boolean[runways.length];
+        this.lastWasLanding = new boolean[runways.length];
+        this.streak = new int[runways.length];
+    }
+
+    // Each time is when the head of that queue asked for the runway, or -1 if the queue is
+    // empty. busy tells whether a runway is occupied. Null when nothing can go now.
+    public Grant next(long emergencySince, long landingSince, long takeoffSince, long now, IntPredicate busy) {
+        Runway landingRunway = emergencySince >= 0 || landingSince >= 0 ? freeRunway(true, busy) : null;
+        Runway takeoffRunway = takeoffSince >= 0 ? freeRunway(false, busy) : null;
+        if (landingRunway == null) {
+            return takeoffRunway == null ? null : new Grant(Movement.TAKEOFF, takeoffRunway);
+        }
+        // Different runways: the landing goes now and the takeoff on the next call.
+        long competingTakeoff = takeoffRunway == landingRunway ? takeoffSince : -1;
+        if (emergencySince < 0 && competingTakeoff < 0) {
+            return new Grant(Movement.LANDING, landingRunway);
+        }
+        return new Grant(policy.choose(this, landingRunway, emergencySince, landingSince, competingTakeoff, now),
+                landingRunway);
+    }
+
+    // Runway time for a granted movement, plus the changeover when it turns the runway round.
+    public long occupy(Runway runway, boolean landing) {
+        int id = runway.getId();
+        long millis = landing ? runway.getLandingMillis() : runway.getTakeoffMillis();
+        if (used[id] && lastWasLanding[id] != landing) {
+            changeovers++;
+            millis += runway.getChangeoverMillis();
+            streak[id] = 0;
+        }
+        used[id] = true;
+        lastWasLanding[id] = landing;
+        streak[id]++;
+        return millis;
+    }
+
+    // Dedicated runways are used before mixed ones, keeping mixed runways for the other direction.
+    public Runway freeRunway(boolean arrival, IntPredicate busy) {
+        Runway mixed = null;
+        for (int i = 0; i < runways.length; i++) {
+            if (busy.test(i)) {
+                continue;
+            }
+            RunwayMode mode = runways[i].getMode();
+            if (!(arrival ? mode.acceptsArrivals() : mode.acceptsDepartures())) {
+                continue;
+            }
+            if (mode != RunwayMode.MIXED) {
+                return runways[i];
+            }
+            if (mixed == null) {
+                mixed = runways[i];
+            }
+        }
+        return mixed;
+    }
+
+    public RunwayPolicy getPolicy() {
+        return policy;
+    }
+
+    public int getMaxBatch() {
+        return maxBatch;
+    }
+
+    public long getTakeoffMaxWaitMillis() {
+        return takeoffMaxWaitMillis;
+    }
+
+    // True if the runway's last movement was a landing, or it has not been used yet.
+    public boolean isFacingLandings(Runway runway) {
+        return !used[runway.getId()] || lastWasLanding[runway.getId()];
+    }
+
+    // Movements in a row in the runway's current direction.
+    public int getStreak(Runway runway) {
+        return streak[runway.getId()];
+    }
+
+    public long getChangeovers() {
+        return changeovers;
+    }
+
+    // For policies to report a takeoff they sent ahead of waiting landings because it had
+    // waited too long.
+    public void countAgedTakeoff() {
+        agedTakeoffs++;
+    }
+
+    // Takeoffs that went ahead of waiting landings because they had waited too long.
+    public long getAgedTakeoffs() {
+        return agedTakeoffs;
+    }
+}
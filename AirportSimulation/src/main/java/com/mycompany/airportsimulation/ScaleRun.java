@@ -0,0 +1,81 @@
+package com.mycompany.airportsimulation;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+// Usage: ScaleRun [planes] [platform|virtual] [gates]
+// Starts every plane at once with sleeps scaled to zero, so all flights are alive together
+// and the cost of one thread per flight shows up in memory and movements per second.
+public class ScaleRun {
+
+    public static void main(String[] args) throws InterruptedException {
+        int planeCount = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        ExecutionMode mode = args.length > 1 ? ExecutionMode.parse(args[1]) : ExecutionMode.fromSystemProperty();
+        int gateCount = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+
+        System.out.println("=== Scale Run: " + planeCount + " planes, " + gateCount + " gates, " + mode + " threads ===");
+        long baselineHeap = usedHeap();
+        long baselineRss = residentSetKb();
+
+        Airport airport = new Airport(AirportConfig.builder()
+                .gates(gateCount)
+                .capacity(planeCount)
+                .serviceTimes(ServiceTimes.DEFAULT.scaled(0))
+                .executionMode(mode)
+                .build(), EventLog.silent());
+        List<Airplane> planes = new ArrayList<>(planeCount);
+        long start = System.nanoTime();
+        int started = 0;
+        try {
+            for (int i = 1; i <= planeCount; i++) {
+                Airplane plane = new Airplane(String.valueOf(i), airport, false);
+                plane.start();
+                planes.add(plane);
+                started++;
+            }
+        } catch (OutOfMemoryError e) {
+            System.out.println("Thread creation failed after " + started + " planes: " + e.getMessage());
+        }
+        long startupNanos = System.nanoTime() - start;
+        long peakHeap = usedHeap();
+        long peakRss = residentSetKb();
+
+        for (Airplane plane : planes) {
+            plane.join(0);
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        System.out.println("Planes started: " + started + " in " + startupNanos / 1_000_000 + " ms");
+        System.out.println("Heap while all planes alive: " + (peakHeap - baselineHeap) / 1024 + " KB ("
+                + (started == 0 ? 0 : (peakHeap - baselineHeap) / started) + " bytes/plane)");
+        if (baselineRss >= 0) {
+            System.out.println("Resident memory while all planes alive: " + (peakRss - baselineRss) + " KB");
+        }
+        System.out.println("Completed in " + elapsedNanos / 1_000_000 + " ms, "
+                + (long) (2.0 * started / (elapsedNanos / 1e9)) + " runway movements/s");
+        airport.close();
+        System.out.println("=== END ===");
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static long residentSetKb() {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc/self/status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("[^0-9]", ""));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            return -1;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,93 @@
+package com.mycompany.airportsimulation;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+// Usage: ScenarioRun poisson <arrivalsPerHour> <minutes> [emergencyPercent]
+//        ScenarioRun burst <planesPerBurst> <everyMinutes> <spacingSeconds> <minutes> [emergencyPercent]
+//        ScenarioRun schedule <file>
+// The airport comes from -Dairport.config (see AirportConfig.fromProperties) and arrivals are
+// seeded by -Dairport.seed; each plane's own draws use the config's seed on either engine.
+// Runs on the discrete-event engine unless -Dairport.engine=threads, in which case arrival
+// times are scaled by the config's timeScale like every other sleep.
+// Long runs want -Dairport.log=off (or log=off in the config) to skip the per-event trace.
+public class ScenarioRun {
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length == 0) {
+            System.err.println("Usage: ScenarioRun poisson|burst|schedule <args>");
+            System.exit(1);
+        }
+        AirportConfig config = AirportConfig.fromSystemProperty();
+        LoadGenerator generator = LoadGenerator.fromSystemProperty();
+        List<LoadGenerator.Arrival> arrivals = switch (args[0]) {
+            case "poisson" -> generator.poisson(Double.parseDouble(args[1]), minutes(args[2]), percent(args, 3));
+            case "burst" -> generator.bursts(Integer.parseInt(args[1]), minutes(args[2]),
+                    Long.parseLong(args[3]) * 1000, minutes(args[4]), percent(args, 5));
+            case "schedule" -> generator.schedule(Path.of(args[1]));
+            default -> throw new IllegalArgumentException("Unknown arrival pattern: " + args[0]);
+        };
+
+        System.out.println("=== Scenario: " + args[0] + ", " + arrivals.size() + " arrivals, "
+                + config.getGates() + " gates, capacity " + config.getCapacity() + ", "
+                + config.getRunwaySpecs().size() + " runway(s) ===");
+        if ("threads".equalsIgnoreCase(System.getProperty(AirportSimulation.ENGINE_PROPERTY, "discrete"))) {
+            runThreaded(config, arrivals);
+        } else {
+            runDiscreteEvent(config, arrivals);
+        }
+    }
+
+    private static void runDiscreteEvent(AirportConfig config, List<LoadGenerator.Arrival> arrivals) {
+        DiscreteEventAirport airport = new DiscreteEventAirport(config, config.getSeed(),
+                config.getLogLevel() != EventLog.Level.OFF || config.getTracePath() != null);
+        for (LoadGenerator.Arrival arrival : arrivals) {
+            airport.scheduleArrival(arrival.id(), arrival.emergency(), arrival.atMillis());
+        }
+        long start = System.nanoTime();
+        airport.run();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        List<Long> waitTimes = airport.getFlights().getCompletedWaitingTimes();
+        airport.getEventLog().close();
+        System.out.println("Simulated time: " + airport.now() / 1000 + " s, wall-clock " + elapsedMillis + " ms");
+        AirportSimulation.printStatistics(airport.getMetrics(), waitTimes);
+    }
+
+    private static void runThreaded(AirportConfig config, List<LoadGenerator.Arrival> arrivals)
+            throws InterruptedException {
+        Airport airport = new Airport(config);
+        ServiceTimes times = config.getServiceTimes();
+        List<Airplane> planes = new ArrayList<>(arrivals.size());
+        long start = System.currentTimeMillis();
+        for (LoadGenerator.Arrival arrival : arrivals) {
+            long delay = start + times.scale(arrival.atMillis()) - System.currentTimeMillis();
+            if (delay > 0) {
+                Thread.sleep(delay);
+            }
+            Airplane plane = new Airplane(arrival.id(), airport, arrival.emergency());
+            plane.start();
+            planes.add(plane);
+        }
+
+        List<Long> waitTimes = new ArrayList<>();
+        for (Airplane plane : planes) {
+            plane.join(0);
+            if (!plane.isDiverted()) {
+                waitTimes.add(plane.getWaitingTime());
+            }
+        }
+        airport.close();
+        AirportSimulation.printStatistics(airport.getMetrics(), waitTimes);
+    }
+
+    private static long minutes(String value) {
+        return (long) (Double.parseDouble(value) * 60_000);
+    }
+
+    private static double percent(String[] args, int index) {
+        return args.length > index ? Double.parseDouble(args[index]) : 0;
+    }
+}
@@ -0,0 +1,71 @@
+package com.mycompany.airportsimulation;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+
+// Usage: SequencingComparison [hours] [arrivalsPerHour] [changeoverMillis] [emergencyPercent] [seed]
+// Runs the same Poisson arrivals through the discrete-event engine once per runway sequencing
+// policy and prints throughput and runway waits side by side. The airport comes from
+// -Dairport.config; sequencing and changeoverMillis are overridden per run.
+public class SequencingComparison {
+
+    public static void main(String[] args) throws IOException {
+        double hours = args.length > 0 ? Double.parseDouble(args[0]) : 8;
+        double arrivalsPerHour = args.length > 1 ? Double.parseDouble(args[1]) : 900;
+        long changeoverMillis = args.length > 2 ? Long.parseLong(args[2]) : 500;
+        double emergencyPercent = args.length > 3 ? Double.parseDouble(args[3]) : 2;
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : 42L;
+
+        Properties base = new Properties();
+        String file = System.getProperty(AirportConfig.PROPERTY);
+        if (file != null) {
+            try (Reader reader = Files.newBufferedReader(Path.of(file))) {
+                base.load(reader);
+            }
+        }
+        List<LoadGenerator.Arrival> arrivals = new LoadGenerator(seed)
+                .poisson(arrivalsPerHour, (long) (hours * 3_600_000), emergencyPercent);
+
+        System.out.println("=== Runway Sequencing: " + arrivals.size() + " arrivals over " + hours + "h, changeover "
+                + changeoverMillis + " ms, seed " + seed + " ===");
+        System.out.printf(Locale.ROOT, "%-9s %9s %12s %12s %12s %12s %12s %11s %8s%n", "Policy", "Flights",
+                "Movements/h", "Landing p99", "Takeoff p99", "Takeoff max", "Holding p99", "Changeovers", "Aged");
+        for (RunwaySequencer.Policy policy : RunwaySequencer.Policy.values()) {
+            Properties properties = new Properties();
+            properties.putAll(base);
+            properties.setProperty("sequencing", policy.name());
+            properties.setProperty("changeoverMillis", String.valueOf(changeoverMillis));
+            properties.setProperty("seed", String.valueOf(seed));
+            AirportConfig config = AirportConfig.fromProperties(properties);
+
+            DiscreteEventAirport airport = new DiscreteEventAirport(config, seed, false);
+            for (LoadGenerator.Arrival arrival : arrivals) {
+                airport.scheduleArrival(arrival.id(), arrival.emergency(), arrival.atMillis());
+            }
+            airport.run();
+
+            FlightMetrics metrics = airport.getMetrics();
+            RunwaySequencer sequencer = airport.getSequencer();
+            long flights = metrics.getFlightsCompleted();
+            System.out.printf(Locale.ROOT, "%-9s %9d %12.1f %12.0f %12.0f %12.0f %12.0f %11d %8d%n",
+                    policy.name().toLowerCase(Locale.ROOT), flights,
+                    2 * flights / (Math.max(airport.now(), 1) / 3_600_000.0),
+                    millis(metrics.snapshot(FlightMetrics.Phase.LANDING_RUNWAY_WAIT, false).percentile(99)),
+                    millis(metrics.snapshot(FlightMetrics.Phase.TAKEOFF_RUNWAY_WAIT, false).percentile(99)),
+                    millis(metrics.snapshot(FlightMetrics.Phase.TAKEOFF_RUNWAY_WAIT, false).getMax()),
+                    millis(metrics.snapshot(FlightMetrics.Phase.CAPACITY_WAIT, false).percentile(99)),
+                    sequencer.getChangeovers(), sequencer.getAgedTakeoffs());
+        }
+        System.out.println("(runway and holding waits in ms, normal traffic)");
+        System.out.println("=== END ===");
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,117 @@
+package com.mycompany.airportsimulation;
+
+public final class ServiceTimes {
+    public static final ServiceTimes DEFAULT = new ServiceTimes(1000, 500, 1000, 1500, 1500, 15, 20, 1.0);
+
+    private final long landingMillis;
+    private final long taxiMillis;
+    private final long takeoffMillis;
+    private final long cleaningMillis;
+    private final long refuelMillis;
+    private final long cateringMillis;
+    private final int disembarkPerSecond;
+    private final int boardingPerSecond;
+    private final int bagsPerSecond;
+    private final double scale;
+
+    public ServiceTimes(long landingMillis, long taxiMillis, long takeoffMillis, long cleaningMillis,
+                        long refuelMillis, int disembarkPerSecond, int boardingPerSecond, double scale) {
+        this(landingMillis, taxiMillis, takeoffMillis, cleaningMillis, refuelMillis, 1000,
+                disembarkPerSecond, boardingPerSecond, scale);
+    }
+
+    public ServiceTimes(long landingMillis, long taxiMillis, long takeoffMillis, long cleaningMillis,
+                        long refuelMillis, long cateringMillis, int disembarkPerSecond, int boardingPerSecond,
+                        double scale) {
+        this(landingMillis, taxiMillis, takeoffMillis, cleaningMillis, refuelMillis, cateringMillis,
+                disembarkPerSecond, boardingPerSecond, 50, scale);
+    }
+
+    // At the default 50 bags a second the hold is never slower than the cabin, since nobody
+    // checks more than two bags.
+    public ServiceTimes(long landingMillis, long taxiMillis, long takeoffMillis, long cleaningMillis,
+                        long refuelMillis, long cateringMillis, int disembarkPerSecond, int boardingPerSecond,
+                        int bagsPerSecond, double scale) {
+        if (disembarkPerSecond <= 0 || boardingPerSecond <= 0 || bagsPerSecond <= 0 || scale < 0) {
+            throw new IllegalArgumentException("Passenger rates must be positive and scale non-negative");
+        }
+        this.landingMillis = landingMillis;
+        this.taxiMillis = taxiMillis;
+        this.takeoffMillis = takeoffMillis;
+        this.cleaningMillis = cleaningMillis;
+        this.refuelMillis = refuelMillis;
+        this.cateringMillis = cateringMillis;
+        this.disembarkPerSecond = disembarkPerSecond;
+        this.boardingPerSecond = boardingPerSecond;
+        this.bagsPerSecond = bagsPerSecond;
+        this.scale = scale;
+    }
+
+    // A scale of 0 removes every sleep while keeping the ordering rules intact.
+    public ServiceTimes scaled(double factor) {
+        return new ServiceTimes(landingMillis, taxiMillis, takeoffMillis, cleaningMillis, refuelMillis,
+                cateringMillis, disembarkPerSecond, boardingPerSecond, bagsPerSecond, scale * factor);
+    }
+
+    public long landing() {
+        return scale(landingMillis);
+    }
+
+    public long taxi() {
+        return scale(taxiMillis);
+    }
+
+    public long takeoff() {
+        return scale(takeoffMillis);
+    }
+
+    public long cleaning() {
+        return scale(cleaningMillis);
+    }
+
+    public long refuel() {
+        return scale(refuelMillis);
+    }
+
+    public long catering() {
+        return scale(cateringMillis);
+    }
+
+    // Rounded up to the millisecond, so a part-filled last second still takes time.
+    public long disembark(int passengers) {
+        return scale(atRate(passengers, disembarkPerSecond));
+    }
+
+    public long boarding(int passengers) {
+        return scale(atRate(passengers, boardingPerSecond));
+    }
+
+    // Loading or unloading the hold, which runs alongside the cabin.
+    public long bags(int bags) {
+        return scale(atRate(bags, bagsPerSecond));
+    }
+
+    public int getDisembarkPerSecond() {
+        return disembarkPerSecond;
+    }
+
+    public int getBoardingPerSecond() {
+        return boardingPerSecond;
+    }
+
+    public int getBagsPerSecond() {
+        return bagsPerSecond;
+    }
+
+    public double getScale() {
+        return scale;
+    }
+
+    public long scale(long millis) {
+        return scale == 1.0 ? millis : Math.round(millis * scale);
+    }
+
+    private static long atRate(int count, int perSecond) {
+        return (count * 1000L + perSecond - 1) / perSecond;
+    }
+}
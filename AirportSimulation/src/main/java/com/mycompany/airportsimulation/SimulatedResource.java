@@ -0,0 +1,39 @@
+package com.mycompany.airportsimulation;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+// Counting resource for the discrete-event engine: grants in FIFO order, like a fair Semaphore.
+class SimulatedResource {
+    private int available;
+    private final Queue<Runnable> waiting = new ArrayDeque<>();
+
+    SimulatedResource(int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Resource count must be positive");
+        }
+        this.available = count;
+    }
+
+    void acquire(Runnable onGranted) {
+        if (available > 0 && waiting.isEmpty()) {
+            available--;
+            onGranted.run();
+        } else {
+            waiting.add(onGranted);
+        }
+    }
+
+    void release() {
+        Runnable next = waiting.poll();
+        if (next != null) {
+            next.run();
+        } else {
+            available++;
+        }
+    }
+
+    int getAvailable() {
+        return available;
+    }
+}
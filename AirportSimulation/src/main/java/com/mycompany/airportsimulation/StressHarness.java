@@ -0,0 +1,172 @@
+package com.mycompany.airportsimulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Usage: StressHarness [runs] [planesPerRun] [p999LimitMillis] [seed]
+// Soak test for the threaded engine's hand-offs. Every run draws its own airport (gates,
+// capacity, runway layout, sequencing, gate policy, turnaround plan, holding limits, platform
+// or virtual threads) and near-zero service times, then releases planes with random jitter so
+// ATC, the gates and the ground workers race each other in a different order each time. A run
+// fails if any plane is still waiting at the deadline, if a flight neither completes nor
+// diverts, or if the airport does not end up empty. Exits non-zero on the first failure, or
+// when the p99.9 flight time across all runs exceeds the limit. Each airport is drained and
+// closed after its run, so the process also only exits by itself if nothing was left behind.
+public class StressHarness {
+    private static final long RUN_DEADLINE_MILLIS = 60_000;
+    private static final List<List<RunwayMode>> LAYOUTS = List.of(
+            List.of(RunwayMode.MIXED),
+            List.of(RunwayMode.MIXED, RunwayMode.MIXED),
+            List.of(RunwayMode.ARRIVALS, RunwayMode.DEPARTURES),
+            List.of(RunwayMode.ARRIVALS, RunwayMode.DEPARTURES, RunwayMode.MIXED));
+
+    // failure is null when the run came out clean.
+    private record Result(long diverted, String failure) {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        int planesPerRun = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        long limitMillis = args.length > 2 ? Long.parseLong(args[2]) : 5_000;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : 42L;
+
+        System.out.println("=== Stress Harness: " + runs + " runs of " + planesPerRun + " planes, seed " + seed
+                + " ===");
+        LatencyHistogram flightTimes = new LatencyHistogram();
+        long diverted = 0;
+        long start = System.nanoTime();
+        for (int run = 0; run < runs; run++) {
+            Random random = new Random(seed + run);
+            AirportConfig config = randomConfig(random, seed + run);
+            Result result = runOnce(config, planesPerRun, random, flightTimes);
+            if (result.failure() != null) {
+                System.out.println("Run " + run + " FAILED (seed " + (seed + run) + ", " + describe(config) + "): "
+                        + result.failure());
+                System.exit(1);
+            }
+            diverted += result.diverted();
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        LatencyHistogram.Snapshot snapshot = flightTimes.snapshot();
+        long p999 = TimeUnit.NANOSECONDS.toMillis(snapshot.percentile(99.9));
+        System.out.println("Flights completed: " + snapshot.getCount() + ", diverted or turned away: " + diverted
+                + ", stuck: 0");
+        System.out.printf("Flight time: p50 %d ms, p99 %d ms, p99.9 %d ms, max %d ms%n",
+                TimeUnit.NANOSECONDS.toMillis(snapshot.percentile(50)),
+                TimeUnit.NANOSECONDS.toMillis(snapshot.percentile(99)), p999,
+                TimeUnit.NANOSECONDS.toMillis(snapshot.getMax()));
+        System.out.println("Wall-clock time: " + elapsedMillis + " ms");
+        if (p999 > limitMillis) {
+            System.out.println("FAILED: p99.9 flight time " + p999 + " ms is over the " + limitMillis + " ms limit");
+            System.exit(1);
+        }
+        System.out.println("=== END ===");
+    }
+
+    private static AirportConfig randomConfig(Random random, long seed) {
+        int gates = 1 + random.nextInt(4);
+        AirportConfig.Builder builder = AirportConfig.builder()
+                .gates(gates)
+                .capacity(gates + random.nextInt(4))
+                .groundResources(1 + random.nextInt(3), 1 + random.nextInt(3), 1 + random.nextInt(3))
+                .changeoverMillis(random.nextInt(2))
+                .sequencing(RunwaySequencer.Policy.values()[random.nextInt(RunwaySequencer.Policy.values().length)],
+                        1 + random.nextInt(4), random.nextInt(20))
+                .gatePolicy(GateAllocator.Policy.values()[random.nextInt(GateAllocator.Policy.values().length)],
+                        random.nextInt(2))
+                .turnaround(random.nextBoolean() ? TurnaroundPlan.STANDARD : TurnaroundPlan.OVERLAPPED)
+                .serviceTimes(ServiceTimes.DEFAULT.scaled(random.nextInt(3) * 0.001))
+                .executionMode(random.nextBoolean() ? ExecutionMode.VIRTUAL : ExecutionMode.PLATFORM)
+                .logLevel(EventLog.Level.OFF)
+                .seed(seed);
+        for (RunwayMode mode : LAYOUTS.get(random.nextInt(LAYOUTS.size()))) {
+            builder.runway(mode);
+        }
+        // A third of the runs shed load, so the timed waits and cancellations race the grants too.
+        // Another sixth run on a single millisecond of fuel, so a slot often frees up right at
+        // the deadline and the runway wait starts with no time left.
+        int shedding = random.nextInt(6);
+        if (shedding < 2) {
+            builder.holding(1 + random.nextInt(8), 1 + random.nextInt(50));
+        } else if (shedding == 2) {
+            builder.holding(random.nextInt(8), 1);
+        }
+        return builder.build();
+    }
+
+    private static Result runOnce(AirportConfig config, int planeCount, Random random, LatencyHistogram flightTimes)
+            throws InterruptedException {
+        Airport airport = new Airport(config, EventLog.silent());
+        List<Airplane> planes = new ArrayList<>(planeCount);
+        List<Thread> threads = new ArrayList<>(planeCount);
+        for (int i = 1; i <= planeCount; i++) {
+            Airplane plane = new Airplane(String.valueOf(i), airport, random.nextInt(10) == 0);
+            Thread thread = config.getExecutionMode().newThread(plane.getName(), () -> {
+                long start = System.nanoTime();
+                plane.run();
+                if (!plane.isDiverted()) {
+                    flightTimes.record(System.nanoTime() - start);
+                }
+            });
+            planes.add(plane);
+            threads.add(thread);
+            thread.start();
+            if (random.nextInt(4) == 0) {
+                Thread.sleep(0, random.nextInt(200_000));
+            }
+        }
+
+        long deadline = System.currentTimeMillis() + RUN_DEADLINE_MILLIS;
+        List<String> stuck = new ArrayList<>();
+        for (int i = 0; i < planeCount; i++) {
+            threads.get(i).join(Math.max(1, deadline - System.currentTimeMillis()));
+            if (threads.get(i).isAlive()) {
+                stuck.add(planes.get(i).getName() + " (" + planes.get(i).getClearance() + ")");
+            }
+        }
+        if (!stuck.isEmpty()) {
+            return new Result(0, stuck.size() + " plane(s) stuck after " + RUN_DEADLINE_MILLIS + " ms: " + stuck);
+        }
+
+        FlightMetrics metrics = airport.getMetrics();
+        long diverted = metrics.getFlightsDiverted() + metrics.getFlightsRejected();
+        for (Airplane plane : planes) {
+            if (!plane.isDiverted() && plane.getClearance() != Airplane.Clearance.TAKEOFF) {
+                return new Result(diverted, plane.getName() + " ended without taking off ("
+                        + plane.getClearance() + ")");
+            }
+        }
+        if (metrics.getFlightsCompleted() + diverted != planeCount) {
+            return new Result(diverted, metrics.getFlightsCompleted() + " completed and " + diverted
+                    + " diverted out of " + planeCount);
+        }
+        if (airport.getAdmission().availableSlots() != config.getCapacity()
+                || airport.getGateAllocator().getFreeGates() != config.getGates()
+                || airport.getCurrentGroundPlanes() != 0
+                || airport.getATC().getBusyRunways() != 0) {
+            return new Result(diverted, "airport not empty afterwards: "
+                    + airport.getAdmission().availableSlots() + " capacity slots, "
+                    + airport.getGateAllocator().getFreeGates() + " gates free, "
+                    + airport.getCurrentGroundPlanes() + " planes on the ground, "
+                    + airport.getATC().getBusyRunways() + " runways busy");
+        }
+        if (!airport.drain(1, TimeUnit.SECONDS)) {
+            return new Result(diverted, airport.getPlanesHere() + " plane(s) never left the airport");
+        }
+        airport.close();
+        if (airport.getATC().getDispatcherThread() != null) {
+            return new Result(diverted, "ATC dispatcher still running after close");
+        }
+        return new Result(diverted, null);
+    }
+
+    private static String describe(AirportConfig config) {
+        return config.getGates() + " gates, capacity " + config.getCapacity() + ", "
+                + config.getRunwaySpecs().size() + " runway(s), " + config.getSequencing() + ", "
+                + config.getGatePolicy() + " gates, "
+                + config.getExecutionMode() + " threads, holding limit " + config.getHoldingLimit();
+    }
+}
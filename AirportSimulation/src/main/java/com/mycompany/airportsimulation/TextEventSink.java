@@ -0,0 +1,24 @@
+package com.mycompany.airportsimulation;
+
+import java.io.PrintStream;
+
+public class TextEventSink implements EventSink {
+    private final PrintStream out;
+    private final StringBuilder line = new StringBuilder(128);
+
+    public TextEventSink(PrintStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public void accept(long timestamp, EventType type, String subject, long a, long b) {
+        line.setLength(0);
+        type.render(line, subject, a, b);
+        out.println(line);
+    }
+
+    @Override
+    public void flush() {
+        out.flush();
+    }
+}
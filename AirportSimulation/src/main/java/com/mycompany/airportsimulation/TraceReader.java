@@ -0,0 +1,75 @@
+package com.mycompany.airportsimulation;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+// Scans a BinaryTraceSink file through read-only mappings and hands every event to a sink.
+public class TraceReader {
+    private static final long WINDOW_BYTES = 256L << 20;
+    private static final int MAX_RECORD_BYTES = 7 + Short.MAX_VALUE;
+
+    private final Path file;
+    private final long seed;
+
+    public TraceReader(Path file) throws IOException {
+        this.file = file;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, BinaryTraceSink.HEADER_BYTES);
+            header.order(ByteOrder.LITTLE_ENDIAN);
+            if (header.getInt() != BinaryTraceSink.MAGIC || header.getInt() != BinaryTraceSink.VERSION) {
+                throw new IOException("Not an airport trace: " + file);
+            }
+            this.seed = header.getLong();
+        }
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    // Returns the number of events read.
+    public long read(EventSink sink) throws IOException {
+        List<String> subjects = new ArrayList<>();
+        long events = 0;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = BinaryTraceSink.HEADER_BYTES;
+            MappedByteBuffer buffer = null;
+            long bufferStart = 0;
+            while (position < size) {
+                if (buffer == null || position - bufferStart > buffer.limit() - MAX_RECORD_BYTES
+                        && bufferStart + buffer.limit() < size) {
+                    bufferStart = position;
+                    buffer = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                            Math.min(WINDOW_BYTES, size - position));
+                    buffer.order(ByteOrder.LITTLE_ENDIAN);
+                }
+                buffer.position((int) (position - bufferStart));
+                byte tag = buffer.get();
+                if (tag == BinaryTraceSink.EVENT) {
+                    EventType type = EventType.fromOrdinal(buffer.get());
+                    String subject = subjects.get(buffer.getInt());
+                    sink.accept(buffer.getLong(), type, subject, buffer.getLong(), buffer.getLong());
+                    events++;
+                } else if (tag == BinaryTraceSink.SUBJECT) {
+                    buffer.getInt();
+                    byte[] bytes = new byte[buffer.getShort()];
+                    buffer.get(bytes);
+                    subjects.add(new String(bytes, StandardCharsets.UTF_8));
+                } else {
+                    break;
+                }
+                position = bufferStart + buffer.position();
+            }
+        }
+        sink.flush();
+        return events;
+    }
+}
@@ -0,0 +1,92 @@
+package com.mycompany.airportsimulation;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+// Usage: TraceTool summary <trace>   event counts per type and scan rate
+//        TraceTool print <trace>     the trace rendered as the usual console lines
+//        TraceTool replay <trace>    re-run the trace's arrivals on the discrete-event engine
+// Record a trace with -Dairport.trace=<file>; -Dairport.console=false skips the console.
+// A replay uses the trace's seed, so every plane draws the same passengers as the recorded
+// run, and it is deterministic: replaying with -Dairport.trace set writes the same bytes
+// every time. The airport comes from -Dairport.config, which should match the recording.
+public class TraceTool {
+    private static final String PLANE_PREFIX = "Plane-";
+    private static final String EMERGENCY_SUFFIX = "-EMERGENCY";
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: TraceTool summary|print|replay <trace>");
+            System.exit(1);
+        }
+        TraceReader reader = new TraceReader(Path.of(args[1]));
+        switch (args[0]) {
+            case "summary" -> summary(reader);
+            case "print" -> reader.read(new TextEventSink(System.out));
+            case "replay" -> replay(reader);
+            default -> throw new IllegalArgumentException("Unknown command: " + args[0]);
+        }
+    }
+
+    private static void summary(TraceReader reader) throws IOException {
+        long[] counts = new long[EventType.values().length];
+        long[] span = {Long.MAX_VALUE, Long.MIN_VALUE};
+        long start = System.nanoTime();
+        long events = reader.read((timestamp, type, subject, a, b) -> {
+            counts[type.ordinal()]++;
+            span[0] = Math.min(span[0], timestamp);
+            span[1] = Math.max(span[1], timestamp);
+        });
+        long elapsedNanos = System.nanoTime() - start;
+
+        System.out.println("=== Trace: " + events + " events, seed " + reader.getSeed() + " ===");
+        if (events > 0) {
+            System.out.println("Time span: " + (span[1] - span[0]) + " ms");
+        }
+        for (EventType type : EventType.values()) {
+            if (counts[type.ordinal()] > 0) {
+                System.out.printf("%-26s %12d%n", type, counts[type.ordinal()]);
+            }
+        }
+        System.out.println("Scanned in " + elapsedNanos / 1_000_000 + " ms ("
+                + (long) (events / Math.max(elapsedNanos / 1e9, 1e-9)) + " events/s)");
+    }
+
+    private record Arrival(long atMillis, String id, boolean emergency) {
+    }
+
+    // Arrival times are taken relative to the first landing request.
+    private static void replay(TraceReader reader) throws IOException {
+        List<Arrival> arrivals = new ArrayList<>();
+        reader.read((timestamp, type, subject, a, b) -> {
+            if (type == EventType.LANDING_REQUESTED && subject.startsWith(PLANE_PREFIX)) {
+                boolean emergency = a != 0;
+                String id = subject.substring(PLANE_PREFIX.length(),
+                        subject.length() - (emergency ? EMERGENCY_SUFFIX.length() : 0));
+                arrivals.add(new Arrival(timestamp, id, emergency));
+            }
+        });
+        if (arrivals.isEmpty()) {
+            System.out.println("No landing requests in trace; nothing to replay.");
+            return;
+        }
+
+        AirportConfig config = AirportConfig.fromSystemProperty();
+        DiscreteEventAirport airport = new DiscreteEventAirport(config, reader.getSeed(), true);
+        long origin = Long.MAX_VALUE;
+        for (Arrival arrival : arrivals) {
+            origin = Math.min(origin, arrival.atMillis());
+        }
+        for (Arrival arrival : arrivals) {
+            airport.scheduleArrival(arrival.id(), arrival.emergency(), arrival.atMillis() - origin);
+        }
+        airport.run();
+
+        List<Long> waitTimes = airport.getFlights().getCompletedWaitingTimes();
+        airport.getEventLog().close();
+        System.out.println("Replayed " + arrivals.size() + " arrivals with seed " + reader.getSeed());
+        AirportSimulation.printStatistics(airport.getMetrics(), waitTimes);
+    }
+}
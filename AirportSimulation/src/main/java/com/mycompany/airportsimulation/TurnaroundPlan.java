@@ -0,0 +1,124 @@
+package com.mycompany.airportsimulation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+// A turnaround as a dependency graph of named stages. Each stage starts as soon as the
+// stages it follows have finished, so independent work overlaps without a thread waiting
+// on it. Stages are added in dependency order; the plan is immutable once built.
+public final class TurnaroundPlan {
+    // The original sequence: disembark, then cleaning and refuelling together, then boarding.
+    public static final TurnaroundPlan STANDARD = builder()
+            .stage("disembark", GroundServices::disembark)
+            .stage("clean", GroundServices::clean, "disembark")
+            .stage("refuel", GroundServices::refuel, "disembark")
+            .stage("board", GroundServices::board, "clean", "refuel")
+            .build();
+
+    // Refuelling starts on arrival at the stand and catering overlaps cleaning.
+    public static final TurnaroundPlan OVERLAPPED = builder()
+            .stage("disembark", GroundServices::disembark)
+            .stage("refuel", GroundServices::refuel)
+            .stage("clean", GroundServices::clean, "disembark")
+            .stage("cater", GroundServices::cater, "disembark")
+            .stage("board", GroundServices::board, "clean", "cater", "refuel")
+            .build();
+
+    private record Step(String name, TurnaroundStage stage, List<String> after) {
+    }
+
+    private final List<Step> steps;
+
+    private TurnaroundPlan(List<Step> steps) {
+        this.steps = List.copyOf(steps);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static TurnaroundPlan parse(String name) {
+        return switch (name.trim().toLowerCase(Locale.ROOT)) {
+            case "standard" -> STANDARD;
+            case "overlapped" -> OVERLAPPED;
+            default -> throw new IllegalArgumentException("Unknown turnaround plan: " + name);
+        };
+    }
+
+    public List<String> getStageNames() {
+        List<String> names = new ArrayList<>(steps.size());
+        for (Step step : steps) {
+            names.add(step.name());
+        }
+        return names;
+    }
+
+    // Completes when every stage has; the first failure is passed on once the rest settle.
+    public CompletableFuture<Void> start(Airplane plane, GroundServices services) {
+        Map<String, CompletableFuture<Void>> started = new HashMap<>();
+        CompletableFuture<?>[] all = new CompletableFuture<?>[steps.size()];
+        for (int i = 0; i < steps.size(); i++) {
+            Step step = steps.get(i);
+            CompletableFuture<?>[] before = new CompletableFuture<?>[step.after().size()];
+            for (int j = 0; j < before.length; j++) {
+                before[j] = started.get(step.after().get(j));
+            }
+            CompletableFuture<Void> future = before.length == 0
+                    ? startStep(step, services, plane)
+                    : CompletableFuture.allOf(before).thenCompose(ready -> startStep(step, services, plane));
+            started.put(step.name(), future);
+            all[i] = future;
+        }
+        return CompletableFuture.allOf(all);
+    }
+
+    private static CompletableFuture<Void> startStep(Step step, GroundServices services, Airplane plane) {
+        AirportEvents.TurnaroundPhase event = new AirportEvents.TurnaroundPhase();
+        if (!event.isEnabled()) {
+            return step.stage().start(services, plane);
+        }
+        event.begin();
+        return step.stage().start(services, plane).whenComplete((done, error) -> {
+            event.end();
+            if (event.shouldCommit()) {
+                event.plane = plane.getName();
+                event.phase = step.name();
+                event.commit();
+            }
+        });
+    }
+
+    public static final class Builder {
+        private final List<Step> steps = new ArrayList<>();
+        private final Map<String, Step> byName = new HashMap<>();
+
+        private Builder() {
+        }
+
+        public Builder stage(String name, TurnaroundStage stage, String... after) {
+            if (byName.containsKey(name)) {
+                throw new IllegalArgumentException("Duplicate turnaround stage: " + name);
+            }
+            for (String dependency : after) {
+                if (!byName.containsKey(dependency)) {
+                    throw new IllegalArgumentException("Stage " + name + " follows unknown stage " + dependency);
+                }
+            }
+            Step step = new Step(name, stage, List.of(after));
+            steps.add(step);
+            byName.put(name, step);
+            return this;
+        }
+
+        public TurnaroundPlan build() {
+            if (steps.isEmpty()) {
+                throw new IllegalArgumentException("A turnaround needs at least one stage");
+            }
+            return new TurnaroundPlan(steps);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.mycompany.airportsimulation;
+
+import java.util.concurrent.CompletableFuture;
+
+// One step of a turnaround. It must not block: return a future that completes when the work is done.
+@FunctionalInterface
+public interface TurnaroundStage {
+    CompletableFuture<Void> start(GroundServices services, Airplane plane);
+}
@@ -0,0 +1,57 @@
+package com.mycompany.airportsimulation;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Bounded waits for shutdown paths that must finish even if the caller is interrupted. An
+// interrupt that arrives meanwhile is remembered and set again on return, not lost.
+final class UninterruptibleWait {
+
+    private UninterruptibleWait() {
+    }
+
+    // False if the thread was still alive at the deadline.
+    static boolean join(Thread thread, long deadlineNanos) {
+        boolean interrupted = Thread.interrupted();
+        try {
+            while (true) {
+                long remaining = deadlineNanos - System.nanoTime();
+                if (remaining <= 0) {
+                    return !thread.isAlive();
+                }
+                try {
+                    return thread.join(Duration.ofNanos(remaining));
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    // False if some task was still running at the deadline.
+    static boolean awaitTermination(ExecutorService executor, long deadlineNanos) {
+        boolean interrupted = Thread.interrupted();
+        try {
+            while (true) {
+                long remaining = deadlineNanos - System.nanoTime();
+                if (remaining <= 0) {
+                    return executor.isTerminated();
+                }
+                try {
+                    return executor.awaitTermination(remaining, TimeUnit.NANOSECONDS);
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}